@@ -0,0 +1,25 @@
+package com.polstat.perpustakaan.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class CompressionConfig {
+    @Value("${server.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minResponseSize;
+
+    @Bean
+    public FilterRegistrationBean<CompressionThresholdFilter> compressionThresholdFilter() {
+        FilterRegistrationBean<CompressionThresholdFilter> registration =
+                new FilterRegistrationBean<>(new CompressionThresholdFilter(minResponseSize.toBytes()));
+        registration.addUrlPatterns("/ws/*", "/jsonrpc", "/graphql", "/api/*");
+        registration.setEnabled(compressionEnabled);
+        return registration;
+    }
+}
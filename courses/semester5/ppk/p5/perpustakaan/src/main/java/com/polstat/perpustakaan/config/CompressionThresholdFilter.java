@@ -0,0 +1,104 @@
+package com.polstat.perpustakaan.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Tomcat hanya menerapkan server.compression.min-response-size bila Content-Length diketahui saat response di-commit.
+// Converter Jackson/GraphQL memanggil flush() setelah menulis sehingga response kecil ikut di-commit tanpa
+// Content-Length dan selalu dikompresi. Flush diabaikan sampai ukuran minimum tercapai; response yang lebih kecil
+// baru di-commit saat ditutup, ketika Tomcat sudah bisa mengisi Content-Length.
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+    private final long minResponseSize;
+
+    public CompressionThresholdFilter(long minResponseSize) {
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, new ThresholdResponse(response, minResponseSize));
+    }
+
+    private static class ThresholdResponse extends HttpServletResponseWrapper {
+        private final long minResponseSize;
+        private ServletOutputStream outputStream;
+        private long written;
+
+        ThresholdResponse(HttpServletResponse response, long minResponseSize) {
+            super(response);
+            this.minResponseSize = minResponseSize;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isFlushAllowed()) {
+                super.flushBuffer();
+            }
+        }
+
+        // event stream (SSE) harus sampai ke klien segera, berapa pun ukurannya
+        private boolean isFlushAllowed() {
+            return written >= minResponseSize
+                    || (getContentType() != null && getContentType().startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+        }
+
+        private class ThresholdOutputStream extends ServletOutputStream {
+            private final ServletOutputStream out;
+
+            ThresholdOutputStream(ServletOutputStream out) {
+                this.out = out;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                written++;
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) throws IOException {
+                out.write(buffer, offset, length);
+                written += length;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (isFlushAllowed()) {
+                    out.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return out.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                out.setWriteListener(writeListener);
+            }
+        }
+    }
+}
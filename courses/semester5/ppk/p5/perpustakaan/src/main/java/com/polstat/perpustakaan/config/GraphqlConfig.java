@@ -0,0 +1,54 @@
+package com.polstat.perpustakaan.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GraphqlConfig {
+    @Value("${perpustakaan.graphql.document-cache.max-entries:500}")
+    private int documentCacheMaxEntries;
+
+    @Value("${perpustakaan.graphql.max-depth:15}")
+    private int maxDepth;
+
+    @Value("${perpustakaan.graphql.max-complexity:10000}")
+    private int maxComplexity;
+
+    @Bean
+    public GraphqlDocumentCache graphqlDocumentCache() {
+        return new GraphqlDocumentCache(documentCacheMaxEntries);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer documentCacheCustomizer(GraphqlDocumentCache graphqlDocumentCache) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(graphqlDocumentCache));
+    }
+
+    // batas dihitung dari dokumen sebelum resolver dijalankan, juga untuk dokumen dari cache;
+    // query yang melebihi batas ditolak dengan error tanpa menyentuh database
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, pageSizeComplexity());
+    }
+
+    // setiap field bernilai 1 ditambah field di bawahnya; field dengan argumen first/limit (borrows, searchBooks,
+    // autocomplete) dikalikan jumlah elemen yang diminta, sehingga borrows(first: 1000) { ... } jauh lebih mahal
+    // daripada borrows(first: 10) { ... }
+    private static FieldComplexityCalculator pageSizeComplexity() {
+        return (environment, childComplexity) -> {
+            Object size = environment.getArguments().getOrDefault("first", environment.getArguments().get("limit"));
+            int multiplier = size instanceof Integer count && count > 1 ? count : 1;
+            return (int) Math.min(Integer.MAX_VALUE, (long) (1 + childComplexity) * multiplier);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.polstat.perpustakaan.config;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.MemberDto;
+import com.polstat.perpustakaan.service.BookService;
+import com.polstat.perpustakaan.service.MemberService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import reactor.core.publisher.Mono;
+
+// DataLoader per eksekusi GraphQL: semua id yang diminta (bookById, memberById, maupun field bersarang)
+// dikumpulkan lalu dimuat dengan satu query WHERE id IN (...). Di controller dipakai sebagai argumen
+// DataLoader<Long, BookDto> / DataLoader<Long, MemberDto>; id yang tidak ada menghasilkan null.
+@Configuration
+public class GraphqlDataLoaderConfig {
+    @Autowired
+    private BatchLoaderRegistry batchLoaderRegistry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @PostConstruct
+    void registerBatchLoaders() {
+        batchLoaderRegistry.forTypePair(Long.class, BookDto.class)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> bookService.getBooksById(ids)));
+        batchLoaderRegistry.forTypePair(Long.class, MemberDto.class)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> memberService.getMembersById(ids)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.polstat.perpustakaan.config;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// cache LRU dokumen GraphQL yang sudah di-parse dan divalidasi terhadap schema, dengan key SHA-256 teks query.
+// Key yang sama dipakai untuk persisted query (protokol Apollo, extensions.persistedQuery.sha256Hash):
+// klien mendaftarkan hash sekali dengan mengirim query + hash, setelah itu cukup hash + variables.
+// Hash yang tidak dikenal (belum didaftarkan atau sudah terbuang dari LRU) dijawab PersistedQueryNotFound
+// sehingga klien mengirim ulang query lengkapnya. Dokumen yang gagal di-parse/validasi tidak disimpan.
+public class GraphqlDocumentCache implements PreparsedDocumentProvider {
+
+    private final int maxEntries;
+    private final Map<String, PreparsedDocumentEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final PersistedQuerySupport persistedQueries = new ApolloPersistedQuerySupport(this::persistedDocument);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong persistedNotFound = new AtomicLong();
+
+    public GraphqlDocumentCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        if (executionInput.getExtensions().containsKey("persistedQuery")) {
+            return persistedQueries.getDocumentAsync(executionInput, parseAndValidate);
+        }
+        String key = sha256(executionInput.getQuery());
+        PreparsedDocumentEntry entry = get(key);
+        if (entry == null) {
+            entry = parseAndValidate.apply(executionInput);
+            put(key, entry);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    // dipanggil ApolloPersistedQuerySupport; onCacheMiss memeriksa hash terhadap query sebelum parse
+    private CompletableFuture<PreparsedDocumentEntry> persistedDocument(Object persistedQueryId, ExecutionInput executionInput,
+            PersistedQueryCacheMiss onCacheMiss) throws PersistedQueryNotFound {
+        String key = persistedQueryId.toString();
+        PreparsedDocumentEntry entry = get(key);
+        if (entry == null) {
+            // hanya hash tanpa query: Spring GraphQL mengisi query dengan PERSISTED_QUERY_MARKER
+            if (PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(executionInput.getQuery())) {
+                persistedNotFound.incrementAndGet();
+                throw new PersistedQueryNotFound(persistedQueryId);
+            }
+            entry = onCacheMiss.apply(executionInput.getQuery());
+            put(key, entry);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private synchronized PreparsedDocumentEntry get(String key) {
+        PreparsedDocumentEntry entry = entries.get(key);
+        (entry != null ? hits : misses).incrementAndGet();
+        return entry;
+    }
+
+    private synchronized void put(String key, PreparsedDocumentEntry entry) {
+        if (entry.hasErrors()) {
+            return;
+        }
+        entries.put(key, entry);
+        Iterator<PreparsedDocumentEntry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("persistedQueryNotFound", persistedNotFound.get());
+        return stats;
+    }
+
+    // sama dengan sha256Hash yang dihitung klien Apollo: hex huruf kecil dari SHA-256 teks query (UTF-8)
+    private static String sha256(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
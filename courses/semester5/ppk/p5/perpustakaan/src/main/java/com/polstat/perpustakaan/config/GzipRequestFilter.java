@@ -0,0 +1,151 @@
+package com.polstat.perpustakaan.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// request dengan Content-Encoding: gzip (mis. addBooksRequest berisi ribuan buku) dibuka sebelum sampai ke
+// MessageDispatcherServlet; response dikompresi oleh Tomcat (server.compression)
+public class GzipRequestFilter extends OncePerRequestFilter {
+    private final long maxInflatedSize;
+
+    public GzipRequestFilter(long maxInflatedSize) {
+        this.maxInflatedSize = maxInflatedSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        if (encoding == null || !encoding.trim().equalsIgnoreCase("gzip")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(new InflatingRequest(request, maxInflatedSize), response);
+    }
+
+    private static class InflatingRequest extends HttpServletRequestWrapper {
+        private final long maxInflatedSize;
+        private ServletInputStream inputStream;
+
+        InflatingRequest(HttpServletRequest request, long maxInflatedSize) {
+            super(request);
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new InflatingInputStream(new GZIPInputStream(super.getInputStream(), 8192), maxInflatedSize);
+            }
+            return inputStream;
+        }
+
+        // panjang setelah dibuka tidak diketahui
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            if (isHiddenHeader(name)) {
+                return null;
+            }
+            return super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (isHiddenHeader(name)) {
+                return Collections.emptyEnumeration();
+            }
+            return super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isHiddenHeader(name))
+                    .toList());
+        }
+
+        private static boolean isHiddenHeader(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    // membatasi ukuran hasil dekompresi agar request kecil tidak bisa mengembang menjadi ratusan MB
+    private static class InflatingInputStream extends ServletInputStream {
+        private final InputStream in;
+        private final long maxInflatedSize;
+        private long read;
+        private boolean finished;
+
+        InflatingInputStream(InputStream in, long maxInflatedSize) {
+            this.in = in;
+            this.maxInflatedSize = maxInflatedSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            count(b < 0 ? -1 : 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = in.read(buffer, offset, length);
+            count(n);
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            if (n < 0) {
+                finished = true;
+                return;
+            }
+            read += n;
+            if (read > maxInflatedSize) {
+                throw new IOException("Request gzip melebihi " + maxInflatedSize + " byte setelah dibuka");
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Request gzip hanya mendukung pembacaan blocking");
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
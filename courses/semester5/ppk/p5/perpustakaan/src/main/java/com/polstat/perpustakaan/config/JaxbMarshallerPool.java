@@ -0,0 +1,81 @@
+package com.polstat.perpustakaan.config;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+
+// satu JAXBContext bersama + pool Marshaller/Unmarshaller (keduanya tidak thread-safe, tapi boleh dipakai ulang).
+// Pool tidak memblokir: bila kosong dibuat instance baru, bila penuh instance yang dikembalikan dibuang.
+public class JaxbMarshallerPool {
+    private final JAXBContext context;
+    private final Package contextPackage;
+    private final BlockingQueue<Marshaller> marshallers;
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+
+    public JaxbMarshallerPool(Class<?> objectFactory, int size) {
+        try {
+            this.context = JAXBContext.newInstance(objectFactory);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("JAXBContext untuk " + objectFactory.getPackageName() + " gagal dibuat", e);
+        }
+        this.contextPackage = objectFactory.getPackage();
+        this.marshallers = new ArrayBlockingQueue<>(size);
+        this.unmarshallers = new ArrayBlockingQueue<>(size);
+    }
+
+    public boolean supports(Class<?> type) {
+        return type.getPackage() == contextPackage && type.isAnnotationPresent(XmlRootElement.class);
+    }
+
+    public QName getElementName(Object value) {
+        return context.createJAXBIntrospector().getElementName(value);
+    }
+
+    public void marshal(Object value, XMLStreamWriter writer) throws JAXBException {
+        Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.marshal(value, writer);
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    public void marshal(Object value, Result result) throws JAXBException {
+        Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.marshal(value, result);
+        } finally {
+            marshallers.offer(marshaller);
+        }
+    }
+
+    public Object unmarshal(Source source) throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallers.poll();
+        if (unmarshaller == null) {
+            unmarshaller = context.createUnmarshaller();
+        }
+        try {
+            return unmarshaller.unmarshal(source);
+        } finally {
+            unmarshallers.offer(unmarshaller);
+        }
+    }
+
+    private Marshaller borrowMarshaller() throws JAXBException {
+        Marshaller marshaller = marshallers.poll();
+        if (marshaller == null) {
+            marshaller = context.createMarshaller();
+            // ditulis di dalam SOAP Body, jadi tanpa deklarasi XML
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+        }
+        return marshaller;
+    }
+}
@@ -0,0 +1,30 @@
+package com.polstat.perpustakaan.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polstat.perpustakaan.rpc.JsonRpcDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Service;
+
+@Configuration
+public class JsonRpcConfig {
+    // jumlah thread untuk menjalankan elemen batch secara paralel
+    @Value("${perpustakaan.jsonrpc.batch.threads:8}")
+    private int batchThreads;
+
+    // antrean eksekutor; bila penuh, elemen batch dijalankan di thread request (CallerRunsPolicy)
+    @Value("${perpustakaan.jsonrpc.batch.queue-capacity:256}")
+    private int batchQueueCapacity;
+
+    @Value("${perpustakaan.jsonrpc.batch.max-size:100}")
+    private int maxBatchSize;
+
+    // method JSON-RPC dikumpulkan dari bean @Service yang memiliki method @JsonRpcMethod
+    @Bean(destroyMethod = "shutdown")
+    public JsonRpcDispatcher jsonRpcDispatcher(ObjectMapper objectMapper, ApplicationContext context) {
+        return new JsonRpcDispatcher(objectMapper, context.getBeansWithAnnotation(Service.class).values(),
+                batchThreads, batchQueueCapacity, maxBatchSize);
+    }
+}
@@ -0,0 +1,59 @@
+package com.polstat.perpustakaan.config;
+
+import com.polstat.perpustakaan.rpc.JsonRpcDispatcher;
+import com.polstat.perpustakaan.rpc.JsonRpcWebSocketHandler;
+import java.time.Duration;
+import org.apache.tomcat.websocket.server.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@EnableWebSocket
+@Configuration
+public class JsonRpcWebSocketConfig implements WebSocketConfigurer {
+    @Autowired
+    private JsonRpcDispatcher jsonRpcDispatcher;
+
+    // pesan (request atau batch) yang belum selesai per koneksi sebelum pembacaan koneksi ditahan
+    @Value("${perpustakaan.jsonrpc.ws.max-in-flight:64}")
+    private int maxInFlight;
+
+    // koneksi ditutup bila tetap penuh selama ini
+    @Value("${perpustakaan.jsonrpc.ws.in-flight-timeout:30s}")
+    private Duration inFlightTimeout;
+
+    @Value("${perpustakaan.jsonrpc.ws.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${perpustakaan.jsonrpc.ws.send-buffer-size:1MB}")
+    private DataSize sendBufferSize;
+
+    @Value("${perpustakaan.jsonrpc.ws.max-message-size:512KB}")
+    private DataSize maxMessageSize;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(jsonRpcWebSocketHandler(), "/jsonrpc/ws");
+    }
+
+    @Bean
+    public JsonRpcWebSocketHandler jsonRpcWebSocketHandler() {
+        return new JsonRpcWebSocketHandler(jsonRpcDispatcher, maxInFlight, inFlightTimeout, sendTimeLimit,
+                (int) sendBufferSize.toBytes());
+    }
+
+    // batas pesan teks Tomcat (bawaan 8KB) diatur lewat parameter context; ServletServerContainerFactoryBean
+    // membutuhkan ServerContainer sehingga gagal di test dengan servlet context tiruan
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> webSocketMessageSizeCustomizer() {
+        return factory -> factory.addContextCustomizers(context -> context.addParameter(
+                Constants.TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM, String.valueOf(maxMessageSize.toBytes())));
+    }
+}
@@ -0,0 +1,75 @@
+package com.polstat.perpustakaan.config;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Source;
+import jakarta.xml.bind.JAXBException;
+import org.springframework.core.MethodParameter;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.server.endpoint.adapter.method.AbstractPayloadMethodProcessor;
+import org.springframework.ws.stream.StreamingPayload;
+import org.springframework.ws.stream.StreamingWebServiceMessage;
+
+// pengganti XmlRootElementPayloadMethodProcessor untuk kelas generated: Marshaller/Unmarshaller diambil dari pool,
+// bukan dibuat baru di setiap request
+public class PooledJaxbPayloadMethodProcessor extends AbstractPayloadMethodProcessor {
+    private final JaxbMarshallerPool pool;
+
+    public PooledJaxbPayloadMethodProcessor(JaxbMarshallerPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    protected boolean supportsRequestPayloadParameter(MethodParameter parameter) {
+        return pool.supports(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MessageContext messageContext, MethodParameter parameter) throws Exception {
+        Source source = messageContext.getRequest().getPayloadSource();
+        return source == null ? null : pool.unmarshal(source);
+    }
+
+    @Override
+    protected boolean supportsResponsePayloadReturnType(MethodParameter returnType) {
+        return pool.supports(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(MessageContext messageContext, MethodParameter returnType, Object returnValue) throws Exception {
+        // null: endpoint sudah mengisi response sendiri (misalnya GetBooksStreamingPayload)
+        if (returnValue == null) {
+            return;
+        }
+        WebServiceMessage response = messageContext.getResponse();
+        if (response instanceof StreamingWebServiceMessage streamingResponse) {
+            streamingResponse.setStreamingPayload(new PooledJaxbStreamingPayload(returnValue));
+        } else {
+            pool.marshal(returnValue, response.getPayloadResult());
+        }
+    }
+
+    private class PooledJaxbStreamingPayload implements StreamingPayload {
+        private final Object value;
+
+        PooledJaxbStreamingPayload(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public QName getName() {
+            return pool.getElementName(value);
+        }
+
+        @Override
+        public void writeTo(XMLStreamWriter writer) throws XMLStreamException {
+            try {
+                pool.marshal(value, writer);
+            } catch (JAXBException e) {
+                throw new XMLStreamException(e);
+            }
+        }
+    }
+}
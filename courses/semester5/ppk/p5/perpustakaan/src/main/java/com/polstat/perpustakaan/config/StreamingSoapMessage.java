@@ -0,0 +1,83 @@
+package com.polstat.perpustakaan.config;
+
+import jakarta.xml.soap.MessageFactory;
+import jakarta.xml.soap.SOAPBody;
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.soap.SOAPHeader;
+import jakarta.xml.soap.SOAPMessage;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.dom.DOMResult;
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.stream.StreamingPayload;
+import org.springframework.ws.stream.StreamingWebServiceMessage;
+import org.springframework.ws.transport.TransportConstants;
+import org.springframework.ws.transport.TransportOutputStream;
+
+// SaajSoapMessage yang bisa menulis payload langsung ke output dengan StAX, tanpa membangun DOM lebih dulu.
+// Payload baru ditulis di writeTo, sehingga interceptor yang membaca payload hanya melihat body kosong.
+public class StreamingSoapMessage extends SaajSoapMessage implements StreamingWebServiceMessage {
+    private static final String ENVELOPE_PREFIX = "SOAP-ENV";
+
+    private final XMLOutputFactory outputFactory;
+    private StreamingPayload streamingPayload;
+
+    public StreamingSoapMessage(SOAPMessage soapMessage, boolean langAttributeOnSoap11FaultString, MessageFactory messageFactory,
+                                XMLOutputFactory outputFactory) {
+        super(soapMessage, langAttributeOnSoap11FaultString, messageFactory);
+        this.outputFactory = outputFactory;
+    }
+
+    @Override
+    public void setStreamingPayload(StreamingPayload payload) {
+        this.streamingPayload = payload;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        StreamingPayload payload = streamingPayload;
+        if (payload == null) {
+            super.writeTo(outputStream);
+            return;
+        }
+        streamingPayload = null;
+        try {
+            SOAPHeader header = getSaajMessage().getSOAPHeader();
+            SOAPBody body = getSaajMessage().getSOAPBody();
+            if (body.hasChildNodes()) {
+                // body sudah diisi (misalnya fault) setelah payload dipasang: isi body yang dipakai
+                super.writeTo(outputStream);
+                return;
+            }
+            if (header != null && header.hasChildNodes()) {
+                // header SOAP tidak kosong: tulis payload ke DOM dan biarkan SAAJ menserialisasi semuanya
+                XMLStreamWriter writer = outputFactory.createXMLStreamWriter(new DOMResult(body));
+                payload.writeTo(writer);
+                writer.flush();
+                super.writeTo(outputStream);
+                return;
+            }
+            if (outputStream instanceof TransportOutputStream transportOutputStream) {
+                transportOutputStream.addHeader(TransportConstants.HEADER_CONTENT_TYPE,
+                        getVersion().getContentType() + "; charset=utf-8");
+            }
+            String namespaceUri = getVersion().getEnvelopeNamespaceUri();
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(outputStream, "UTF-8");
+            writer.setPrefix(ENVELOPE_PREFIX, namespaceUri);
+            writer.writeStartElement(ENVELOPE_PREFIX, "Envelope", namespaceUri);
+            writer.writeNamespace(ENVELOPE_PREFIX, namespaceUri);
+            writer.writeEmptyElement(ENVELOPE_PREFIX, "Header", namespaceUri);
+            writer.writeStartElement(ENVELOPE_PREFIX, "Body", namespaceUri);
+            payload.writeTo(writer);
+            writer.writeEndElement();
+            writer.writeEndElement();
+            writer.flush();
+            outputStream.flush();
+        } catch (SOAPException | XMLStreamException e) {
+            throw new IOException("Gagal menulis SOAP message: " + e.getMessage(), e);
+        }
+    }
+}
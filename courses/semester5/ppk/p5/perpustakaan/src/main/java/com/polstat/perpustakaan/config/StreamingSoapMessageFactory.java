@@ -0,0 +1,20 @@
+package com.polstat.perpustakaan.config;
+
+import javax.xml.stream.XMLOutputFactory;
+import org.springframework.ws.soap.saaj.SaajSoapMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+// response dibuat sebagai StreamingSoapMessage; request tetap dibaca oleh SAAJ biasa
+public class StreamingSoapMessageFactory extends SaajSoapMessageFactory {
+    private final XMLOutputFactory outputFactory;
+
+    public StreamingSoapMessageFactory(XMLOutputFactory outputFactory) {
+        this.outputFactory = outputFactory;
+    }
+
+    @Override
+    public SaajSoapMessage createWebServiceMessage() {
+        SaajSoapMessage message = super.createWebServiceMessage();
+        return new StreamingSoapMessage(message.getSaajMessage(), true, getMessageFactory(), outputFactory);
+    }
+}
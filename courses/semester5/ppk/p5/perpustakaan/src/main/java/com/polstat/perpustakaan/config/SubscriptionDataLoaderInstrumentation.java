@@ -0,0 +1,29 @@
+package com.polstat.perpustakaan.config;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.OperationDefinition;
+import graphql.schema.DataFetcher;
+import org.springframework.stereotype.Component;
+
+// graphql-java 22 tidak men-dispatch DataLoader saat mengeksekusi event subscription, sehingga field yang
+// dimuat lewat DataLoader (Borrow.member, Borrow.book, Book.borrows, ...) tidak pernah selesai dan
+// subscription berhenti mengirim event. Untuk operasi subscription, DataLoader di-dispatch langsung setelah
+// setiap field diambil; query dan mutation tetap dibatch seperti biasa.
+@Component
+public class SubscriptionDataLoaderInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters,
+            InstrumentationState state) {
+        if (parameters.getExecutionContext().getOperationDefinition().getOperation() != OperationDefinition.Operation.SUBSCRIPTION) {
+            return dataFetcher;
+        }
+        return environment -> {
+            Object value = dataFetcher.get(environment);
+            environment.getDataLoaderRegistry().dispatchAll();
+            return value;
+        };
+    }
+}
@@ -1,11 +1,24 @@
 package com.polstat.perpustakaan.config;
 
+import com.ctc.wstx.stax.WstxOutputFactory;
+import generated.ObjectFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLOutputFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.unit.DataSize;
 import org.springframework.ws.config.annotation.EnableWs;
+import org.springframework.ws.server.endpoint.adapter.DefaultMethodEndpointAdapter;
+import org.springframework.ws.server.endpoint.adapter.method.MethodArgumentResolver;
+import org.springframework.ws.server.endpoint.adapter.method.MethodReturnValueHandler;
 import org.springframework.ws.transport.http.MessageDispatcherServlet;
 import org.springframework.ws.wsdl.wsdl11.DefaultWsdl11Definition;
 import org.springframework.xml.xsd.SimpleXsdSchema;
@@ -14,6 +27,18 @@ import org.springframework.xml.xsd.XsdSchema;
 @EnableWs
 @Configuration
 public class WebServiceConfig {
+    // jumlah Marshaller/Unmarshaller yang disimpan di pool; 0 = pemrosesan JAXB bawaan Spring-WS (dibuat per request)
+    @Value("${perpustakaan.ws.jaxb.pool-size:16}")
+    private int jaxbPoolSize;
+
+    // implementasi StAX untuk menulis response SOAP: woodstox atau jdk
+    @Value("${perpustakaan.ws.stax:woodstox}")
+    private String staxImplementation;
+
+    // batas ukuran request SOAP ber-Content-Encoding gzip setelah dibuka
+    @Value("${perpustakaan.ws.gzip.max-request-size:64MB}")
+    private DataSize gzipMaxRequestSize;
+
     @Bean
     public ServletRegistrationBean<MessageDispatcherServlet> messageDispatcherServlet(ApplicationContext context) {
         MessageDispatcherServlet servlet = new MessageDispatcherServlet();
@@ -22,6 +47,55 @@ public class WebServiceConfig {
         return new ServletRegistrationBean<>(servlet, "/ws/*");
     }
 
+    @Bean
+    public FilterRegistrationBean<GzipRequestFilter> gzipRequestFilter() {
+        FilterRegistrationBean<GzipRequestFilter> registration =
+                new FilterRegistrationBean<>(new GzipRequestFilter(gzipMaxRequestSize.toBytes()));
+        registration.addUrlPatterns("/ws/*");
+        return registration;
+    }
+
+    // dipakai MessageDispatcherServlet (nama bean "messageFactory") agar response bisa di-stream
+    @Bean
+    public StreamingSoapMessageFactory messageFactory() {
+        return new StreamingSoapMessageFactory(createOutputFactory(staxImplementation));
+    }
+
+    // pool (dan JAXBContext-nya) hanya dibuat bila pool-size > 0
+    @Bean
+    @ConditionalOnExpression("${perpustakaan.ws.jaxb.pool-size:16} > 0")
+    public JaxbMarshallerPool jaxbMarshallerPool() {
+        return new JaxbMarshallerPool(ObjectFactory.class, jaxbPoolSize);
+    }
+
+    // resolver bawaan didaftarkan lebih dulu dan akan menangkap kelas @XmlRootElement,
+    // jadi processor dengan pool disisipkan di urutan pertama
+    @Bean
+    @ConditionalOnExpression("${perpustakaan.ws.jaxb.pool-size:16} > 0")
+    public SmartInitializingSingleton pooledJaxbRegistration(DefaultMethodEndpointAdapter adapter, JaxbMarshallerPool pool) {
+        return () -> {
+            PooledJaxbPayloadMethodProcessor processor = new PooledJaxbPayloadMethodProcessor(pool);
+            List<MethodArgumentResolver> resolvers = new ArrayList<>(adapter.getMethodArgumentResolvers());
+            resolvers.add(0, processor);
+            adapter.setMethodArgumentResolvers(resolvers);
+            List<MethodReturnValueHandler> handlers = new ArrayList<>(adapter.getMethodReturnValueHandlers());
+            handlers.add(0, processor);
+            adapter.setMethodReturnValueHandlers(handlers);
+        };
+    }
+
+    public static XMLOutputFactory createOutputFactory(String implementation) {
+        switch (implementation) {
+            case "woodstox":
+                return new WstxOutputFactory();
+            case "jdk":
+                // newFactory() akan memilih Woodstox karena ada di classpath
+                return XMLOutputFactory.newDefaultFactory();
+            default:
+                throw new IllegalStateException("perpustakaan.ws.stax tidak dikenal: " + implementation + ", pilihan: woodstox, jdk");
+        }
+    }
+
     @Bean(name = "library")
     public DefaultWsdl11Definition defaultWsdl11Definition(XsdSchema librarySchema) {
         DefaultWsdl11Definition definition = new DefaultWsdl11Definition();
@@ -0,0 +1,67 @@
+package com.polstat.perpustakaan.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.CursorPage;
+import com.polstat.perpustakaan.service.BookService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/books")
+public class BookController {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<BookDto>> getBooks(@RequestParam(required = false) Long cursor,
+                                                        @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(bookService.getBooks(cursor, limit));
+    }
+
+    // NDJSON: satu buku per baris, ditulis langsung ke response selama data dibaca dari database
+    @GetMapping("/export")
+    public void exportBooks(@RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(BookDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            bookService.exportBooks(book -> {
+                try {
+                    writer.writeValue(generator, book);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(@RequestParam String prefix,
+                                                     @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(bookService.autocomplete(prefix, limit));
+    }
+}
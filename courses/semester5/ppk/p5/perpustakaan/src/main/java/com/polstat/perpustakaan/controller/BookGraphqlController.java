@@ -1,23 +1,67 @@
 package com.polstat.perpustakaan.controller;
 import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.BookEventDto;
+import com.polstat.perpustakaan.dto.CursorPage;
+import com.polstat.perpustakaan.event.ChangeFeed;
 import com.polstat.perpustakaan.service.BookService;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.dataloader.DataLoader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.graphql.data.ArgumentValue;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.graphql.data.query.ScrollSubrange;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
 @Controller
 public class BookGraphqlController {
     @Autowired
     private BookService bookService;
+    @Autowired
+    private ChangeFeed changeFeed;
+    // hanya kolom untuk field yang diminta klien yang di-SELECT, misalnya { books { id title } } tanpa description
+    @QueryMapping
+    public List<BookDto> books(DataFetchingFieldSelectionSet selectionSet) {
+        return bookService.getBooks(selectionSet.getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet()));
+    }
+    // Relay connection: cursor adalah posisi keyset {"id": "..."} yang di-encode oleh Spring GraphQL.
+    // id disimpan sebagai String karena JsonKeysetCursorStrategy menolak tipe Long saat decode.
+    @QueryMapping
+    public Window<BookDto> booksConnection(ScrollSubrange subrange) {
+        if (!subrange.forward()) {
+            throw new IllegalArgumentException("booksConnection hanya mendukung first/after");
+        }
+        Long cursor = subrange.position().map(BookGraphqlController::toId).orElse(null);
+        Integer first = subrange.count().isPresent() ? subrange.count().getAsInt() : null;
+        CursorPage<BookDto> page = bookService.getBooks(cursor, first);
+        List<BookDto> books = page.getItems();
+        return Window.from(books, index -> ScrollPosition.forward(Map.of("id", books.get(index).getId().toString())), page.isHasNext());
+    }
     @QueryMapping
-    public List<BookDto> books() {
-        return bookService.getBooks();
+    public List<BookDto> searchBooks(@Argument String keyword, @Argument Integer limit) {
+        return bookService.searchBooks(keyword, limit);
     }
     @QueryMapping
-    public BookDto bookById(@Argument Long id) {
-        return bookService.getBook(id);
+    public List<String> autocomplete(@Argument String prefix, @Argument Integer limit) {
+        return bookService.autocomplete(prefix, limit);
+    }
+    // dikumpulkan lewat DataLoader (GraphqlDataLoaderConfig): semua bookById dalam satu query GraphQL = satu query SQL
+    @QueryMapping
+    public CompletableFuture<BookDto> bookById(@Argument Long id, DataLoader<Long, BookDto> bookLoader) {
+        return bookLoader.load(id);
     }
     @MutationMapping
     public BookDto createBook(@Argument String title, @Argument String
@@ -29,17 +73,38 @@ public class BookGraphqlController {
                 .build();
         return bookService.createBook(bookDto);
     }
+    // hanya argumen yang dikirim yang diubah (description: null mengosongkan deskripsi), dengan satu UPDATE
     @MutationMapping
-    public BookDto updateBook(@Argument Long id, @Argument String title, @Argument String description, @Argument String author) {
-        BookDto bookDto = bookService.getBook(id);
-        bookDto.setTitle(title);
-        bookDto.setAuthor(author);
-        bookDto.setDescription(description);
-        return bookService.updateBook(bookDto);
+    public BookDto updateBook(@Argument Long id, @Argument ArgumentValue<String> title, @Argument ArgumentValue<String> description,
+            @Argument ArgumentValue<String> author) {
+        Map<String, Object> changes = new HashMap<>();
+        putIfPresent(changes, "title", title);
+        putIfPresent(changes, "description", description);
+        putIfPresent(changes, "author", author);
+        return bookService.updateBook(id, changes);
     }
     @MutationMapping
     public void deleteBook(@Argument Long id) {
-        BookDto bookDto = bookService.getBook(id);
-        bookService.deleteBook(bookDto);
+        bookService.deleteBook(id);
+    }
+    // pengganti polling books: buku yang dibuat/diubah/dihapus dikirim lewat WebSocket /graphql
+    @SubscriptionMapping
+    public Flux<BookEventDto> bookChanged() {
+        return changeFeed.bookEvents();
+    }
+    private static void putIfPresent(Map<String, Object> changes, String column, ArgumentValue<?> value) {
+        if (!value.isOmitted()) {
+            changes.put(column, value.value());
+        }
+    }
+    private static Long toId(ScrollPosition position) {
+        if (position instanceof KeysetScrollPosition keyset && keyset.getKeys().get("id") instanceof String id) {
+            try {
+                return Long.valueOf(id);
+            } catch (NumberFormatException e) {
+                // dilaporkan di bawah
+            }
+        }
+        throw new IllegalArgumentException("cursor tidak valid");
     }
 }
\ No newline at end of file
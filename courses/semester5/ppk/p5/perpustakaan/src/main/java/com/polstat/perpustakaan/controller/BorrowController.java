@@ -1,6 +1,8 @@
 package com.polstat.perpustakaan.controller;
 
 import com.polstat.perpustakaan.dto.BorrowDto;
+import com.polstat.perpustakaan.dto.BorrowFilter;
+import com.polstat.perpustakaan.dto.CursorPage;
 import com.polstat.perpustakaan.service.BorrowService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -31,4 +33,13 @@ public class BorrowController {
     public ResponseEntity<List<BorrowDto>> getAllBorrowings() {
         return ResponseEntity.ok(borrowService.getAllBorrowings());
     }
+
+    // misalnya ?memberId=1&status=Borrowed atau ?overdue=true&from=2024-01-01&to=2024-01-07;
+    // halaman berikutnya dengan cursor=nextCursor
+    @GetMapping
+    public ResponseEntity<CursorPage<BorrowDto>> findBorrows(BorrowFilter filter,
+                                                             @RequestParam(required = false) Long cursor,
+                                                             @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(borrowService.findBorrows(filter, cursor, limit));
+    }
 }
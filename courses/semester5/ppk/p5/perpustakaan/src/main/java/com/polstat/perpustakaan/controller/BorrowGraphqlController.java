@@ -0,0 +1,73 @@
+package com.polstat.perpustakaan.controller;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.BorrowDto;
+import com.polstat.perpustakaan.dto.BorrowEventDto;
+import com.polstat.perpustakaan.dto.MemberDto;
+import com.polstat.perpustakaan.event.ChangeFeed;
+import com.polstat.perpustakaan.service.BorrowService;
+import org.dataloader.DataLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Controller
+public class BorrowGraphqlController {
+
+    @Autowired
+    private BorrowService borrowService;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    // keyset pagination: after = id peminjaman terakhir dari halaman sebelumnya
+    @QueryMapping
+    public List<BorrowDto> borrows(@Argument Integer first, @Argument Long after) {
+        return borrowService.getBorrows(after, first);
+    }
+
+    // pengganti polling /api/borrowing/all: peminjaman dan pengembalian dikirim lewat WebSocket /graphql
+    @SubscriptionMapping
+    public Flux<BorrowEventDto> borrowChanged() {
+        return changeFeed.borrowEvents();
+    }
+
+    // member dan book dari semua peminjaman dalam satu query GraphQL dimuat lewat DataLoader (GraphqlDataLoaderConfig)
+    @SchemaMapping(typeName = "Borrow")
+    public CompletableFuture<MemberDto> member(BorrowDto borrow, DataLoader<Long, MemberDto> memberLoader) {
+        return memberLoader.load(borrow.getMemberId());
+    }
+
+    @SchemaMapping(typeName = "Borrow")
+    public CompletableFuture<BookDto> book(BorrowDto borrow, DataLoader<Long, BookDto> bookLoader) {
+        return bookLoader.load(borrow.getBookId());
+    }
+
+    // @BatchMapping juga berbasis DataLoader: peminjaman untuk semua buku/anggota di level yang sama diambil sekaligus
+    @BatchMapping(typeName = "Book", field = "borrows")
+    public Map<BookDto, List<BorrowDto>> bookBorrows(List<BookDto> books) {
+        Map<Long, List<BorrowDto>> borrows = borrowService.getBorrowsByBookIds(
+                books.stream().map(BookDto::getId).collect(Collectors.toSet()));
+        return books.stream().collect(Collectors.toMap(Function.identity(),
+                book -> borrows.getOrDefault(book.getId(), List.of()), (first, second) -> first));
+    }
+
+    @BatchMapping(typeName = "Member", field = "borrows")
+    public Map<MemberDto, List<BorrowDto>> memberBorrows(List<MemberDto> members) {
+        Map<Long, List<BorrowDto>> borrows = borrowService.getBorrowsByMemberIds(
+                members.stream().map(MemberDto::getId).collect(Collectors.toSet()));
+        return members.stream().collect(Collectors.toMap(Function.identity(),
+                member -> borrows.getOrDefault(member.getId(), List.of()), (first, second) -> first));
+    }
+}
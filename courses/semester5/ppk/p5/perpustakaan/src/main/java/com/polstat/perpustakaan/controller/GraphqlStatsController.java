@@ -0,0 +1,23 @@
+package com.polstat.perpustakaan.controller;
+
+import com.polstat.perpustakaan.config.GraphqlDocumentCache;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/graphql")
+public class GraphqlStatsController {
+
+    @Autowired
+    private GraphqlDocumentCache graphqlDocumentCache;
+
+    // hit/miss cache dokumen GraphQL dan persisted query yang tidak dikenal
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(graphqlDocumentCache.getStats());
+    }
+}
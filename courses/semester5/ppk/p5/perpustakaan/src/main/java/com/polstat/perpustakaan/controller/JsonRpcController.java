@@ -1,50 +1,28 @@
 package com.polstat.perpustakaan.controller;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.polstat.perpustakaan.dto.BookDto;
-import com.polstat.perpustakaan.rpc.JsonRpcRequest;
-import com.polstat.perpustakaan.rpc.JsonRpcResponse;
-import com.polstat.perpustakaan.service.BookService;
-import java.util.List;
+import com.polstat.perpustakaan.rpc.JsonRpcDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class JsonRpcController {
     @Autowired
-    private BookService bookService;
+    private JsonRpcDispatcher jsonRpcDispatcher;
 
-    @PostMapping("/jsonrpc")
-    public ResponseEntity<Object> handleJsonRpcRequest(@RequestBody JsonRpcRequest request) {
-        try {
-            String method = request.getMethod();
-            JsonNode params = request.getParams();
-            System.out.println("Method: "+ method);
-            switch (method) {
-                case "createBook":
-                    String title = params.get("title").asText();
-                    String author = params.get("author").asText();
-                    String description = params.get("description").asText();
-                    BookDto book = BookDto.builder()
-                            .title(title)
-                            .description(description)
-                            .author(author)
-                            .build();
-                    bookService.createBook(book);
-                    return ResponseEntity.ok(new JsonRpcResponse("created", request.getId()));
-                case "getBooks":
-                    List<BookDto> books = bookService.getBooks();
-                    return ResponseEntity.ok(new JsonRpcResponse(books, request.getId()));
-                case "searchBooks":
-                    String keyword = params.get("keyword").asText();
-                    List<BookDto> searchResults = bookService.searchBooks(keyword);
-                    return ResponseEntity.ok(new JsonRpcResponse(searchResults, request.getId()));
-                default:
-                    return ResponseEntity.badRequest().build();
-            }
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
+    // request (tunggal atau batch) dibaca langsung dari body dan response ditulis langsung ke output,
+    // tanpa JsonNode atau HttpMessageConverter; notifikasi saja menghasilkan 204
+    @PostMapping(value = "/jsonrpc", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void handleJsonRpcRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean written = jsonRpcDispatcher.handle(request.getInputStream(), () -> {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            return response.getOutputStream();
+        });
+        if (!written) {
+            response.setStatus(HttpStatus.NO_CONTENT.value());
         }
     }
-}
\ No newline at end of file
+}
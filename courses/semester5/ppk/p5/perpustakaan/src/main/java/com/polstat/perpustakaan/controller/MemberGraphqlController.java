@@ -2,13 +2,21 @@ package com.polstat.perpustakaan.controller;
 
 import com.polstat.perpustakaan.dto.MemberDto;
 import com.polstat.perpustakaan.service.MemberService;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.data.ArgumentValue;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Controller
 public class MemberGraphqlController {
@@ -16,14 +24,18 @@ public class MemberGraphqlController {
     @Autowired
     private MemberService memberService;
 
+    // hanya kolom untuk field yang diminta klien yang di-SELECT
     @QueryMapping
-    public List<MemberDto> members() {
-        return memberService.getMembers();
+    public List<MemberDto> members(DataFetchingFieldSelectionSet selectionSet) {
+        return memberService.getMembers(selectionSet.getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet()));
     }
 
+    // dikumpulkan lewat DataLoader (GraphqlDataLoaderConfig): semua memberById dalam satu query GraphQL = satu query SQL
     @QueryMapping
-    public MemberDto memberById(@Argument Long id) {
-        return memberService.getMember(id);
+    public CompletableFuture<MemberDto> memberById(@Argument Long id, DataLoader<Long, MemberDto> memberLoader) {
+        return memberLoader.load(id);
     }
 
     @MutationMapping
@@ -37,18 +49,29 @@ public class MemberGraphqlController {
         return memberService.createMember(memberDto);
     }
 
+    // hanya argumen yang dikirim yang diubah, dengan satu UPDATE; kolom lain dibaca hanya bila diminta di selection set
     @MutationMapping
-    public MemberDto updateMember(@Argument Long id, @Argument String memberID, @Argument String name, @Argument String address, @Argument String phoneNumber) {
-        MemberDto memberDto = memberService.getMember(id);
-        memberDto.setMemberID(memberID);
-        memberDto.setName(name);
-        memberDto.setAddress(address);
-        memberDto.setPhoneNumber(phoneNumber);
-        return memberService.updateMember(memberDto);
+    public MemberDto updateMember(@Argument Long id, @Argument ArgumentValue<String> memberID, @Argument ArgumentValue<String> name,
+            @Argument ArgumentValue<String> address, @Argument ArgumentValue<String> phoneNumber,
+            DataFetchingFieldSelectionSet selectionSet) {
+        Map<String, Object> changes = new HashMap<>();
+        putIfPresent(changes, "memberID", memberID);
+        putIfPresent(changes, "name", name);
+        putIfPresent(changes, "address", address);
+        putIfPresent(changes, "phoneNumber", phoneNumber);
+        return memberService.updateMember(id, changes, selectionSet.getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet()));
     }
 
     @MutationMapping
     public void deleteMember(@Argument Long id) {
         memberService.deleteMember(id);
     }
+
+    private static void putIfPresent(Map<String, Object> changes, String column, ArgumentValue<?> value) {
+        if (!value.isOmitted()) {
+            changes.put(column, value.value());
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package com.polstat.perpustakaan.controller;
+
+import com.polstat.perpustakaan.search.AutocompleteIndex;
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.search.InvertedBookIndex;
+import com.polstat.perpustakaan.search.TrigramBookIndex;
+import com.polstat.perpustakaan.service.SearchResultCache;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private BookIndexer bookIndexer;
+
+    @Autowired
+    private InvertedBookIndex invertedBookIndex;
+
+    @Autowired
+    private TrigramBookIndex trigramBookIndex;
+
+    @Autowired
+    private AutocompleteIndex autocompleteIndex;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Value("${perpustakaan.search.mode:trigram}")
+    private String searchMode;
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", searchMode);
+        stats.put("ready", bookIndexer.isReady());
+        stats.put("indexedBooks", bookIndexer.size());
+        stats.put("invertedIndexTerms", invertedBookIndex.termCount());
+        stats.put("trigrams", trigramBookIndex.trigramCount());
+        stats.put("trigramPostings", trigramBookIndex.postingCount());
+        stats.put("trigramMemoryBytes", trigramBookIndex.estimatedMemoryBytes());
+        stats.put("autocompleteKeys", autocompleteIndex.keyCount());
+        stats.put("cache", searchResultCache.getStats());
+        return ResponseEntity.ok(stats);
+    }
+}
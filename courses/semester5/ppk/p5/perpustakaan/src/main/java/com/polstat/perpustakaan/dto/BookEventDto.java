@@ -0,0 +1,16 @@
+package com.polstat.perpustakaan.dto;
+
+import com.polstat.perpustakaan.event.BookChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// isi subscription GraphQL bookChanged; book null untuk DELETED
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookEventDto {
+    private BookChangedEvent.Type type;
+    private Long bookId;
+    private BookDto book;
+}
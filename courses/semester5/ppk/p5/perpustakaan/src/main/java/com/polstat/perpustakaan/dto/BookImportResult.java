@@ -0,0 +1,20 @@
+package com.polstat.perpustakaan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// hasil penyimpanan satu buku dalam createBooks; index = posisi buku di daftar masukan
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportResult {
+    public enum Status { CREATED, INVALID, FAILED }
+
+    private int index;
+    private Long id;
+    private Status status;
+    private String message;
+}
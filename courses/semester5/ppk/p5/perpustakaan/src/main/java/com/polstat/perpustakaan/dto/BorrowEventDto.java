@@ -0,0 +1,15 @@
+package com.polstat.perpustakaan.dto;
+
+import com.polstat.perpustakaan.event.BorrowChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// isi subscription GraphQL borrowChanged
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BorrowEventDto {
+    private BorrowChangedEvent.Type type;
+    private BorrowDto borrow;
+}
@@ -0,0 +1,26 @@
+package com.polstat.perpustakaan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// filter peminjaman; field yang null tidak dipakai. from/to membatasi borrowDate (inklusif),
+// overdue=true hanya peminjaman berstatus Borrowed yang sudah melewati batas waktu pengembalian
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BorrowFilter {
+    private Long memberId;
+    private Long bookId;
+    private String status;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    private Boolean overdue;
+}
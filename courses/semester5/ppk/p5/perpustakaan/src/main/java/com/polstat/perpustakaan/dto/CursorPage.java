@@ -0,0 +1,18 @@
+package com.polstat.perpustakaan.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// satu halaman hasil keyset pagination; nextCursor dikirim kembali sebagai cursor untuk halaman berikutnya
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -3,15 +3,21 @@ package com.polstat.perpustakaan.endpoint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.BookImportResult;
+import com.polstat.perpustakaan.dto.CursorPage;
 import com.polstat.perpustakaan.service.BookService;
 import generated.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.ws.context.MessageContext;
 import org.springframework.ws.server.endpoint.annotation.Endpoint;
 import org.springframework.ws.server.endpoint.annotation.PayloadRoot;
 import org.springframework.ws.server.endpoint.annotation.RequestPayload;
 import org.springframework.ws.server.endpoint.annotation.ResponsePayload;
+import org.springframework.ws.stream.StreamingWebServiceMessage;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Endpoint
 public class BookEndpoint {
@@ -22,21 +28,34 @@ public class BookEndpoint {
     @Autowired
     private BookService bookService;
 
+    // true: getBooksRequest tanpa cursor/limit ditulis langsung dengan StAX selama data dibaca
+    @Value("${perpustakaan.ws.streaming:true}")
+    private boolean streaming;
+
     @PayloadRoot(namespace = NAMESPACE_URI, localPart = "getBooksRequest")
     @ResponsePayload
-    public GetBooksResponse getBooks() {
+    public GetBooksResponse getBooks(@RequestPayload GetBooksRequest request, MessageContext messageContext) {
         GetBooksResponse response = new GetBooksResponse();
 
-        List<BookDto> books = bookService.getBooks();
-        for (BookDto book : books) {
-            Book it = new Book();
-            it.setTitle(book.getTitle());
-            it.setAuthor(book.getAuthor());
-            it.setDescription(book.getDescription());
-
-            response.getBooks().add(it);
+        // tanpa cursor/limit: seluruh katalog
+        if (request.getCursor() == null && request.getLimit() == null) {
+            if (streaming && messageContext.getResponse() instanceof StreamingWebServiceMessage streamingResponse) {
+                streamingResponse.setStreamingPayload(new GetBooksStreamingPayload(NAMESPACE_URI, bookService));
+                return null;
+            }
+            for (BookDto book : bookService.getBooks()) {
+                response.getBooks().add(mapToBook(book));
+            }
+            return response;
         }
 
+        CursorPage<BookDto> page = bookService.getBooks(request.getCursor(), request.getLimit());
+        for (BookDto book : page.getItems()) {
+            response.getBooks().add(mapToBook(book));
+        }
+        if (page.isHasNext()) {
+            response.setNextCursor(page.getNextCursor());
+        }
         return response;
     }
 
@@ -50,11 +69,40 @@ public class BookEndpoint {
         return response;
     }
 
+    @PayloadRoot(namespace = NAMESPACE_URI, localPart = "addBooksRequest")
+    @ResponsePayload
+    public AddBooksResponse addBooks(@RequestPayload AddBooksRequest request) {
+        List<BookDto> bookDtos = request.getBooks().stream()
+                .map(book -> new BookDto(null, book.getTitle(), book.getAuthor(), book.getDescription()))
+                .collect(Collectors.toList());
+        AddBooksResponse response = new AddBooksResponse();
+        int created = 0;
+        for (BookImportResult result : bookService.createBooks(bookDtos)) {
+            AddBookResult item = new AddBookResult();
+            item.setIndex(result.getIndex());
+            item.setId(result.getId());
+            item.setStatus(result.getStatus().name());
+            item.setMessage(result.getMessage());
+            response.getResults().add(item);
+            if (result.getStatus() == BookImportResult.Status.CREATED) {
+                created++;
+            }
+        }
+        response.setCreated(created);
+        response.setFailed(bookDtos.size() - created);
+        return response;
+    }
+
     @PayloadRoot(namespace = NAMESPACE_URI, localPart = "searchBooksRequest")
     @ResponsePayload
     public SearchBooksResponse searchBooks(@RequestPayload SearchBooksRequest request) {
         SearchBooksResponse response = new SearchBooksResponse();
-        List<BookDto> books = bookService.searchBooks(request.getKeyword());
+        List<BookDto> books;
+        if (Boolean.TRUE.equals(request.isFuzzy())) {
+            books = bookService.searchBooksFuzzy(request.getKeyword(), request.getMaxEdits(), request.getLimit());
+        } else {
+            books = bookService.searchBooks(request.getKeyword(), request.getLimit());
+        }
         for (BookDto bookDto : books) {
             response.getBooks().add(mapToBook(bookDto));
         }
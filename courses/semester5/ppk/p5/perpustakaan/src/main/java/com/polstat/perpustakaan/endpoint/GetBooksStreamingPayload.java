@@ -0,0 +1,67 @@
+package com.polstat.perpustakaan.endpoint;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.service.BookService;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.springframework.ws.stream.StreamingPayload;
+
+// getBooksResponse yang ditulis elemen demi elemen selama buku dibaca dari database.
+// Urutan dan nama elemen harus sama dengan tipe tns:book di library.xsd.
+// Memakai default namespace agar tiap elemen tidak membawa prefix.
+public class GetBooksStreamingPayload implements StreamingPayload {
+    private static final String PREFIX = "";
+
+    private final String namespaceUri;
+    private final BookService bookService;
+
+    public GetBooksStreamingPayload(String namespaceUri, BookService bookService) {
+        this.namespaceUri = namespaceUri;
+        this.bookService = bookService;
+    }
+
+    @Override
+    public QName getName() {
+        return new QName(namespaceUri, "getBooksResponse");
+    }
+
+    @Override
+    public void writeTo(XMLStreamWriter writer) throws XMLStreamException {
+        writer.setDefaultNamespace(namespaceUri);
+        writer.writeStartElement(PREFIX, "getBooksResponse", namespaceUri);
+        writer.writeDefaultNamespace(namespaceUri);
+        try {
+            bookService.exportBooks(book -> {
+                try {
+                    writeBook(writer, book);
+                } catch (XMLStreamException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof XMLStreamException xmlStreamException) {
+                throw xmlStreamException;
+            }
+            throw e;
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeBook(XMLStreamWriter writer, BookDto book) throws XMLStreamException {
+        writer.writeStartElement(PREFIX, "books", namespaceUri);
+        writeElement(writer, "id", String.valueOf(book.getId()));
+        writeElement(writer, "title", book.getTitle());
+        writeElement(writer, "author", book.getAuthor());
+        if (book.getDescription() != null) {
+            writeElement(writer, "description", book.getDescription());
+        }
+        writer.writeEndElement();
+    }
+
+    private void writeElement(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        writer.writeStartElement(PREFIX, name, namespaceUri);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,8 +21,14 @@ import lombok.Setter;
 @Entity
 @Table(name = "books")
 public class Book {
+    // jumlah id yang diambil sekaligus dari books_seq, sama dengan hibernate.jdbc.batch_size
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // SEQUENCE (di MySQL diemulasikan dengan tabel books_seq) agar INSERT bisa di-batch;
+    // dengan IDENTITY Hibernate harus menjalankan setiap INSERT sendiri untuk mendapatkan id
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false)
     private String title;
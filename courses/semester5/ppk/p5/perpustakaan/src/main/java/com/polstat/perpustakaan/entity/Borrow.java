@@ -11,17 +11,24 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "borrows")
+// indeks untuk query peminjaman berfilter (BorrowService.findBorrows); InnoDB menambahkan id di akhir setiap
+// indeks sekunder, sehingga filter member/buku + status sekaligus memberi urutan id untuk keyset pagination
+@Table(name = "borrows", indexes = {
+        @Index(name = "idx_borrows_member_status", columnList = "member_id, borrow_status"),
+        @Index(name = "idx_borrows_book_status", columnList = "book_id, borrow_status"),
+        @Index(name = "idx_borrows_borrow_date", columnList = "borrow_date")
+})
 public class Borrow {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // lazy: membaca peminjaman tidak ikut memuat member dan book, id-nya tetap tersedia dari foreign key
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
 
@@ -0,0 +1,37 @@
+package com.polstat.perpustakaan.event;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BookChangedEvent {
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long bookId;
+    // null untuk DELETED
+    private final Book book;
+    // hanya kolom yang diubah (nama atribut Book -> nilai baru) bila perubahan berupa UPDATE sebagian, selain itu null
+    private final Map<String, Object> changes;
+
+    public static BookChangedEvent created(Book book) {
+        return new BookChangedEvent(Type.CREATED, book.getId(), book, null);
+    }
+
+    public static BookChangedEvent updated(Book book) {
+        return new BookChangedEvent(Type.UPDATED, book.getId(), book, null);
+    }
+
+    public static BookChangedEvent updated(Book book, Map<String, Object> changes) {
+        return new BookChangedEvent(Type.UPDATED, book.getId(), book, Collections.unmodifiableMap(new LinkedHashMap<>(changes)));
+    }
+
+    public static BookChangedEvent deleted(Long bookId) {
+        return new BookChangedEvent(Type.DELETED, bookId, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.polstat.perpustakaan.event;
+
+import com.polstat.perpustakaan.entity.Book;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// dikirim BookIndexer setelah perubahan buku diterapkan ke semua indeks pencarian
+@Getter
+@AllArgsConstructor
+public class BookIndexedEvent {
+    private final Long bookId;
+    // versi yang sebelumnya ada di indeks, null untuk buku baru
+    private final Book previous;
+    // null untuk buku yang dihapus
+    private final Book current;
+}
@@ -0,0 +1,22 @@
+package com.polstat.perpustakaan.event;
+
+import com.polstat.perpustakaan.entity.Borrow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BorrowChangedEvent {
+    public enum Type { BORROWED, RETURNED }
+
+    private final Type type;
+    private final Borrow borrow;
+
+    public static BorrowChangedEvent borrowed(Borrow borrow) {
+        return new BorrowChangedEvent(Type.BORROWED, borrow);
+    }
+
+    public static BorrowChangedEvent returned(Borrow borrow) {
+        return new BorrowChangedEvent(Type.RETURNED, borrow);
+    }
+}
@@ -0,0 +1,56 @@
+package com.polstat.perpustakaan.event;
+
+import com.polstat.perpustakaan.dto.BookEventDto;
+import com.polstat.perpustakaan.dto.BorrowEventDto;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.mapper.BorrowMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+// meneruskan BookChangedEvent dan BorrowChangedEvent ke subscription GraphQL (bookChanged, borrowChanged).
+// Setiap subscriber punya buffer sendiri sebesar buffer-size: subscriber yang lambat tidak menahan thread
+// yang mengubah data maupun subscriber lain. Bila buffer penuh, subscription itu diakhiri dengan error
+// (klien berlangganan ulang lalu memuat ulang data) alih-alih membuang event diam-diam.
+@Component
+public class ChangeFeed {
+    // jumlah event yang diambil sekaligus dari buffer ke thread pengirim WebSocket
+    private static final int PREFETCH = 16;
+
+    @Value("${perpustakaan.graphql.subscription.buffer-size:256}")
+    private int bufferSize;
+
+    private final Sinks.Many<BookEventDto> bookEvents = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<BorrowEventDto> borrowEvents = Sinks.many().multicast().directBestEffort();
+
+    public Flux<BookEventDto> bookEvents() {
+        return subscribe(bookEvents);
+    }
+
+    public Flux<BorrowEventDto> borrowEvents() {
+        return subscribe(borrowEvents);
+    }
+
+    // setelah commit bila dipublikasikan di dalam transaksi, agar subscriber tidak melihat perubahan yang di-rollback
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        bookEvents.tryEmitNext(new BookEventDto(event.getType(), event.getBookId(),
+                event.getBook() == null ? null : BookMapper.mapToBookDto(event.getBook())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBorrowChanged(BorrowChangedEvent event) {
+        borrowEvents.tryEmitNext(new BorrowEventDto(event.getType(), BorrowMapper.mapToBorrowDto(event.getBorrow())));
+    }
+
+    // onBackpressureBuffer selalu meminta dari sink sehingga directBestEffort tidak pernah melewatkan subscriber;
+    // publishOn memindahkan pengiriman (WebSocket sendMessage yang blocking) dari thread yang mempublikasikan event
+    private <T> Flux<T> subscribe(Sinks.Many<T> sink) {
+        return sink.asFlux()
+                .onBackpressureBuffer(bufferSize)
+                .publishOn(Schedulers.boundedElastic(), PREFETCH);
+    }
+}
@@ -2,6 +2,10 @@ package com.polstat.perpustakaan.mapper;
 
 import com.polstat.perpustakaan.dto.BookDto;
 import com.polstat.perpustakaan.entity.Book;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.Map;
 
 public class BookMapper {
     public static Book mapToBook(BookDto bookDto) {
@@ -21,4 +25,28 @@ public class BookMapper {
                 .author(book.getAuthor())
                 .build();
     }
+
+    // dari hasil ColumnProjection: kolom yang tidak dipilih tetap null
+    public static BookDto mapToBookDto(Tuple tuple) {
+        BookDto bookDto = new BookDto();
+        for (TupleElement<?> element : tuple.getElements()) {
+            setColumn(bookDto, element.getAlias(), tuple.get(element));
+        }
+        return bookDto;
+    }
+
+    // menerapkan kolom yang diubah dengan UPDATE parsial (nama atribut -> nilai baru)
+    public static void applyColumns(BookDto bookDto, Map<String, ?> columns) {
+        columns.forEach((column, value) -> setColumn(bookDto, column, value));
+    }
+
+    private static void setColumn(BookDto bookDto, String column, Object value) {
+        switch (column) {
+            case "id" -> bookDto.setId((Long) value);
+            case "title" -> bookDto.setTitle((String) value);
+            case "author" -> bookDto.setAuthor((String) value);
+            case "description" -> bookDto.setDescription((String) value);
+            default -> { }
+        }
+    }
 }
\ No newline at end of file
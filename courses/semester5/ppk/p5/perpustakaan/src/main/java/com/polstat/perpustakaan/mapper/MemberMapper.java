@@ -2,6 +2,10 @@ package com.polstat.perpustakaan.mapper;
 
 import com.polstat.perpustakaan.dto.MemberDto;
 import com.polstat.perpustakaan.entity.Member;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.Map;
 
 public class MemberMapper {
 
@@ -16,6 +20,31 @@ public class MemberMapper {
                 .build();
     }
 
+    // Mengubah hasil ColumnProjection menjadi MemberDto; kolom yang tidak dipilih tetap null
+    public static MemberDto mapToMemberDto(Tuple tuple) {
+        MemberDto memberDto = MemberDto.builder().build();
+        for (TupleElement<?> element : tuple.getElements()) {
+            setColumn(memberDto, element.getAlias(), tuple.get(element));
+        }
+        return memberDto;
+    }
+
+    // Menerapkan kolom yang diubah dengan UPDATE parsial (nama atribut -> nilai baru) ke MemberDto
+    public static void applyColumns(MemberDto memberDto, Map<String, ?> columns) {
+        columns.forEach((column, value) -> setColumn(memberDto, column, value));
+    }
+
+    private static void setColumn(MemberDto memberDto, String column, Object value) {
+        switch (column) {
+            case "id" -> memberDto.setId((Long) value);
+            case "memberID" -> memberDto.setMemberID((String) value);
+            case "name" -> memberDto.setName((String) value);
+            case "address" -> memberDto.setAddress((String) value);
+            case "phoneNumber" -> memberDto.setPhoneNumber((String) value);
+            default -> { }
+        }
+    }
+
     // Mengubah MemberDto menjadi Member
     public static Member mapToMember(MemberDto memberDto) {
         Member member = new Member();
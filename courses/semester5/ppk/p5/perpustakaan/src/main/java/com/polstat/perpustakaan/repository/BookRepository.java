@@ -1,11 +1,70 @@
 package com.polstat.perpustakaan.repository;
 import com.polstat.perpustakaan.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
 import java.util.List;
+import java.util.stream.Stream;
 
+// Spring Data REST hanya membuka /books untuk dibaca: penulisan harus lewat BookServiceImpl (GraphQL/SOAP)
+// agar BookChangedEvent terbit dan indeks pencarian, cache hasil pencarian serta subscription tetap sama dengan database
 public interface BookRepository extends JpaRepository<Book, Long> {
+    // POST, PUT dan PATCH /books
+    @Override
+    @RestResource(exported = false)
+    <S extends Book> S save(S entity);
+
+    // DELETE /books/{id}
+    @Override
+    @RestResource(exported = false)
+    void deleteById(Long id);
+
+    @Override
+    @RestResource(exported = false)
+    void delete(Book entity);
+
     @Query("SELECT b FROM Book b WHERE b.title LIKE %:keyword% OR b.author LIKE %:keyword%")
     List<Book> searchBooks(@Param("keyword") String keyword);
+
+    // query internal backend pencarian dan indexer, tidak dibuka sebagai endpoint search Spring Data REST
+    @RestResource(exported = false)
+    @Query("SELECT b FROM Book b WHERE b.title LIKE %:keyword% OR b.author LIKE %:keyword%")
+    List<Book> searchBooks(@Param("keyword") String keyword, Pageable pageable);
+
+    @RestResource(exported = false)
+    @Query(value = "SELECT * FROM books WHERE MATCH(title, author) AGAINST (:query IN BOOLEAN MODE)", nativeQuery = true)
+    List<Book> searchFulltext(@Param("query") String query);
+
+    @RestResource(exported = false)
+    @Query(value = "SELECT * FROM books WHERE MATCH(title, author) AGAINST (:query IN NATURAL LANGUAGE MODE) "
+            + "ORDER BY MATCH(title, author) AGAINST (:query IN NATURAL LANGUAGE MODE) DESC LIMIT :limit", nativeQuery = true)
+    List<Book> searchFulltextRanked(@Param("query") String query, @Param("limit") int limit);
+
+    @RestResource(exported = false)
+    @Query("SELECT b FROM Book b WHERE b.title LIKE :prefix% OR b.author LIKE :prefix%")
+    List<Book> findByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    @RestResource(exported = false)
+    List<Book> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // satu DELETE tanpa memuat entity terlebih dahulu (deleteById menjalankan SELECT lalu DELETE);
+    // tidak dibuka sebagai endpoint search Spring Data REST
+    @RestResource(exported = false)
+    @Modifying
+    @Query("DELETE FROM Book b WHERE b.id = :id")
+    int deleteBookById(@Param("id") Long id);
+
+    // fetch size Integer.MIN_VALUE membuat Connector/J mengalirkan baris satu per satu dari server
+    // (tanpa memuat seluruh result set ke memori); harus dipakai di dalam transaksi dan stream wajib ditutup
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b FROM Book b ORDER BY b.id")
+    Stream<Book> streamAllOrderById();
 }
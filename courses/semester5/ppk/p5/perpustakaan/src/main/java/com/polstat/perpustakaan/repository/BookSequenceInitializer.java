@@ -0,0 +1,34 @@
+package com.polstat.perpustakaan.repository;
+
+import com.polstat.perpustakaan.entity.Book;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// books_seq dibuat baru oleh Hibernate dengan nilai awal 1, padahal tabel books sudah berisi id dari AUTO_INCREMENT.
+// Optimizer pooled memakai next_val sebagai batas atas blok [next_val - allocationSize + 1, next_val],
+// jadi next_val minimal harus max(id) + allocationSize agar id baru tidak bentrok.
+@Component
+public class BookSequenceInitializer {
+    private static final Logger logger = LoggerFactory.getLogger(BookSequenceInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // memastikan skema (termasuk books_seq) sudah dibuat/diperbarui sebelum query di bawah
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void alignWithExistingIds() {
+        int updated = jdbcTemplate.update("UPDATE books_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + ? FROM books) "
+                + "WHERE next_val < (SELECT COALESCE(MAX(id), 0) + ? FROM books)", Book.ID_ALLOCATION_SIZE, Book.ID_ALLOCATION_SIZE);
+        if (updated > 0) {
+            logger.info("books_seq disesuaikan dengan id terbesar di tabel books");
+        }
+    }
+}
@@ -1,8 +1,29 @@
 package com.polstat.perpustakaan.repository;
 
+import com.polstat.perpustakaan.dto.BorrowDto;
 import com.polstat.perpustakaan.entity.Borrow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BorrowRepository extends JpaRepository<Borrow, Long> {
-    // interface kosong karena sudah ada method bawaan dari JpaRepository
+    // proyeksi langsung ke BorrowDto: member dan book tidak ikut dimuat, id-nya diambil dari kolom foreign key
+    String SELECT_DTO = "select new com.polstat.perpustakaan.dto.BorrowDto(b.id, b.member.id, b.book.id, "
+            + "b.borrowDate, b.returnDate, b.borrowStatus, b.overdueDays) from Borrow b ";
+
+    @Query(SELECT_DTO + "order by b.id")
+    List<BorrowDto> findAllDtos();
+
+    @Query(SELECT_DTO + "where b.id > :cursor order by b.id")
+    List<BorrowDto> findPageAfter(@Param("cursor") long cursor, Pageable pageable);
+
+    @Query(SELECT_DTO + "where b.book.id in :bookIds order by b.id")
+    List<BorrowDto> findByBookIds(@Param("bookIds") Collection<Long> bookIds);
+
+    @Query(SELECT_DTO + "where b.member.id in :memberIds order by b.id")
+    List<BorrowDto> findByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
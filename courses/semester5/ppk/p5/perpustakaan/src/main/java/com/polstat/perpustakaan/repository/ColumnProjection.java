@@ -0,0 +1,67 @@
+package com.polstat.perpustakaan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// SELECT hanya kolom yang diminta (misalnya field dari selection set GraphQL), hasilnya Tuple tanpa entity:
+// tidak ada hydration, dirty checking, atau salinan entity di persistence context.
+// Setiap elemen Tuple diberi alias sesuai nama atribut; id selalu ikut dipilih.
+public final class ColumnProjection {
+
+    private ColumnProjection() {
+    }
+
+    public static List<Tuple> findAll(EntityManager entityManager, Class<?> entityClass, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        query.multiselect(selections(entityManager, root, attributes)).orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    public static Optional<Tuple> findById(EntityManager entityManager, Class<?> entityClass, Object id, Collection<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityClass);
+        query.multiselect(selections(entityManager, root, attributes)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    // hanya atribut basic (kolom biasa) selain id yang dipakai; nama lain, misalnya relasi atau field GraphQL
+    // yang dihitung resolver lain, diabaikan
+    public static Set<String> columns(EntityManager entityManager, Class<?> entityClass, Collection<String> attributes) {
+        EntityType<?> entityType = entityManager.getMetamodel().entity(entityClass);
+        Set<String> columns = new LinkedHashSet<>();
+        for (Attribute<?, ?> attribute : entityType.getSingularAttributes()) {
+            if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                    && !((SingularAttribute<?, ?>) attribute).isId()
+                    && attributes.contains(attribute.getName())) {
+                columns.add(attribute.getName());
+            }
+        }
+        return columns;
+    }
+
+    private static List<Selection<?>> selections(EntityManager entityManager, Root<?> root, Collection<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        for (String attribute : columns(entityManager, root.getJavaType(), attributes)) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+}
@@ -0,0 +1,45 @@
+package com.polstat.perpustakaan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import java.util.Map;
+
+// UPDATE ... WHERE id = ? dalam satu statement, hanya untuk kolom di values (nama atribut -> nilai baru, null boleh),
+// tanpa memuat entity terlebih dahulu. Harus dijalankan di dalam transaksi; entity yang sudah ada di persistence
+// context tidak ikut diperbarui. Hasilnya jumlah baris yang berubah: 0 bila id tidak ada.
+public final class ColumnUpdate {
+
+    private ColumnUpdate() {
+    }
+
+    public static <T> int update(EntityManager entityManager, Class<T> entityClass, Object id, Map<String, ?> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Tidak ada kolom yang diubah");
+        }
+        EntityType<T> entityType = entityManager.getMetamodel().entity(entityClass);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = cb.createCriteriaUpdate(entityClass);
+        Root<T> root = update.from(entityClass);
+        values.forEach((name, value) -> {
+            SingularAttribute<? super T, ?> attribute = entityType.getSingularAttribute(name);
+            if (attribute.isId() || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC) {
+                throw new IllegalArgumentException("Kolom tidak bisa diubah: " + name);
+            }
+            Path<Object> path = root.get(name);
+            if (value == null) {
+                update.<Object>set(path, cb.nullLiteral(attribute.getJavaType()));
+            } else {
+                update.<Object, Object>set(path, value);
+            }
+        });
+        update.where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
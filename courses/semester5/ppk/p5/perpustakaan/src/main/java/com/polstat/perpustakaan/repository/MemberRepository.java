@@ -1,12 +1,21 @@
 package com.polstat.perpustakaan.repository;
 import com.polstat.perpustakaan.entity.Member;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 @RepositoryRestResource(collectionResourceRel = "member", path = "member")
 public interface MemberRepository extends PagingAndSortingRepository<Member, Long>, CrudRepository<Member,Long> {
     List<Member> findByName(@Param("name") String name);
     List<Member> findByMemberID(@Param("member_id") String memberID);
+
+    // satu DELETE tanpa memuat entity terlebih dahulu; tidak dibuka sebagai endpoint search Spring Data REST
+    @RestResource(exported = false)
+    @Modifying
+    @Query("DELETE FROM Member m WHERE m.id = :id")
+    int deleteMemberById(@Param("id") Long id);
 }
\ No newline at end of file
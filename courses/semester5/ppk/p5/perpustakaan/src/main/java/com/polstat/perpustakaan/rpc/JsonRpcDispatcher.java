@@ -0,0 +1,434 @@
+package com.polstat.perpustakaan.rpc;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+
+// registry method JSON-RPC (method service dengan @JsonRpcMethod) dan pemrosesan request secara streaming:
+// params langsung diikat ke argumen bertipe saat dibaca parser, hasil langsung ditulis ke output
+public class JsonRpcDispatcher {
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcDispatcher.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<JsonRpcHandler>> handlers = new HashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final int maxBatchSize;
+
+    public JsonRpcDispatcher(ObjectMapper objectMapper, Collection<?> services, int threads, int queueCapacity, int maxBatchSize) {
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        for (Object service : services) {
+            register(service);
+        }
+        // overload dengan argumen paling sedikit dicoba lebih dulu
+        handlers.values().forEach(list -> list.sort(Comparator.comparingInt(JsonRpcHandler::getParameterCount)));
+        // bila antrean penuh, pemanggilan dijalankan di thread pemanggil (CallerRunsPolicy)
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("jsonrpc-"), new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        logger.info("Method JSON-RPC terdaftar: {}", handlers.keySet());
+    }
+
+    private void register(Object service) {
+        Class<?> type = ClassUtils.getUserClass(service);
+        Map<Method, JsonRpcMethod> methods = MethodIntrospector.selectMethods(type,
+                (MethodIntrospector.MetadataLookup<JsonRpcMethod>) method -> AnnotatedElementUtils.findMergedAnnotation(method, JsonRpcMethod.class));
+        methods.forEach((method, annotation) -> {
+            Method invocable = AopUtils.selectInvocableMethod(method, service.getClass());
+            handlers.computeIfAbsent(annotation.value(), name -> new ArrayList<>())
+                    .add(new JsonRpcHandler(annotation.value(), service, invocable, objectMapper));
+        });
+    }
+
+    public Set<String> getMethodNames() {
+        return handlers.keySet();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // memproses satu request atau batch dari in; output hanya dibuka bila ada response
+    // (notifikasi tidak mendapat response). Mengembalikan true bila response ditulis.
+    public boolean handle(InputStream in, ResponseOutput output) throws IOException {
+        Request request = read(in);
+        execute(request);
+        if (!request.hasResponse()) {
+            return false;
+        }
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output.open(), JsonEncoding.UTF8)) {
+            write(request, generator);
+        }
+        return true;
+    }
+
+    // untuk transport yang membawa banyak request sekaligus di satu koneksi (WebSocket): request dibaca di thread
+    // pemanggil, semua pemanggilan dijalankan di eksekutor tanpa menunggu, dan response (null bila hanya notifikasi)
+    // diserialisasi setelah pemanggilan terakhir selesai
+    public CompletableFuture<byte[]> handleAsync(InputStream in) throws IOException {
+        Request request = read(in);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[request.calls.size()];
+        for (int i = 0; i < running.length; i++) {
+            Call call = request.calls.get(i);
+            running[i] = CompletableFuture.runAsync(() -> invoke(call), executor);
+        }
+        return CompletableFuture.allOf(running).thenApply(ignored -> {
+            if (!request.hasResponse()) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                write(request, generator);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        });
+    }
+
+    public interface ResponseOutput {
+        OutputStream open() throws IOException;
+    }
+
+    private Request read(InputStream in) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                List<Call> calls = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (calls.size() == maxBatchSize) {
+                        return Request.error(JsonRpcError.INVALID_REQUEST, "Batch maksimal " + maxBatchSize + " request");
+                    }
+                    calls.add(readCall(parser));
+                }
+                if (calls.isEmpty()) {
+                    return Request.error(JsonRpcError.INVALID_REQUEST, "Batch kosong");
+                }
+                return new Request(calls, true);
+            }
+            if (token == null) {
+                return Request.error(JsonRpcError.INVALID_REQUEST, "Request kosong");
+            }
+            return new Request(List.of(readCall(parser)), false);
+        } catch (JsonProcessingException e) {
+            // JSON tidak valid: seluruh request (termasuk batch) dijawab dengan satu Parse error
+            return Request.error(JsonRpcError.PARSE_ERROR, "Parse error");
+        }
+    }
+
+    // parser berada di awal satu request; setelah kembali parser berada di token terakhir request tersebut
+    private Call readCall(JsonParser parser) throws IOException {
+        Call call = new Call();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            call.fail(JsonRpcError.INVALID_REQUEST, "Invalid Request");
+            return call;
+        }
+        int depth = parser.getParsingContext().getNestingDepth() - 1;
+        String method = null;
+        TokenBuffer bufferedParams = null;
+        boolean paramsBound = false;
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "method":
+                        if (value != JsonToken.VALUE_STRING) {
+                            throw new JsonRpcException(JsonRpcError.INVALID_REQUEST, "Invalid Request");
+                        }
+                        method = parser.getText();
+                        break;
+                    case "id":
+                        call.notification = false;
+                        call.id = readId(parser);
+                        break;
+                    case "params":
+                        if (value != JsonToken.START_OBJECT && value != JsonToken.START_ARRAY) {
+                            throw new JsonRpcException(JsonRpcError.INVALID_REQUEST, "params harus berupa object atau array");
+                        }
+                        // params sebelum method, atau nama method punya beberapa overload: simpan dulu token-tokennya
+                        List<JsonRpcHandler> candidates = method == null ? null : handlers.get(method);
+                        if (candidates != null && candidates.size() == 1) {
+                            call.handler = candidates.get(0);
+                            call.args = bind(call.handler, parser);
+                            paramsBound = true;
+                        } else {
+                            bufferedParams = new TokenBuffer(parser);
+                            bufferedParams.copyCurrentStructure(parser);
+                        }
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+        } catch (JsonRpcException | DatabindException e) {
+            skipToEnd(parser, depth, call);
+            if (e instanceof JsonRpcException rpcException) {
+                call.fail(rpcException.getCode(), rpcException.getMessage());
+            } else {
+                call.fail(JsonRpcError.INVALID_PARAMS, ((DatabindException) e).getOriginalMessage());
+            }
+            return call;
+        }
+        if (method == null) {
+            call.fail(JsonRpcError.INVALID_REQUEST, "Invalid Request");
+        }
+        if (call.error != null) {
+            return call;
+        }
+        List<JsonRpcHandler> candidates = handlers.get(method);
+        if (candidates == null) {
+            call.fail(JsonRpcError.METHOD_NOT_FOUND, "Method not found: " + method);
+            return call;
+        }
+        if (paramsBound) {
+            return call;
+        }
+        try {
+            if (bufferedParams == null) {
+                call.handler = candidates.get(0);
+                call.args = new Object[call.handler.getParameterCount()];
+                call.handler.checkRequired(call.args);
+            } else {
+                call.handler = select(candidates, bufferedParams);
+                try (JsonParser buffered = bufferedParams.asParser(parser.getCodec())) {
+                    buffered.nextToken();
+                    call.args = bind(call.handler, buffered);
+                }
+            }
+        } catch (JsonRpcException e) {
+            call.fail(e.getCode(), e.getMessage());
+        } catch (DatabindException e) {
+            call.fail(JsonRpcError.INVALID_PARAMS, e.getOriginalMessage());
+        }
+        return call;
+    }
+
+    // parser di START_OBJECT/START_ARRAY params; setiap nilai dibaca langsung dengan reader bertipe milik argumennya
+    private Object[] bind(JsonRpcHandler handler, JsonParser parser) throws IOException {
+        Object[] args = new Object[handler.getParameterCount()];
+        if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (index == args.length) {
+                    throw new JsonRpcException(JsonRpcError.INVALID_PARAMS,
+                            handler.getName() + " menerima paling banyak " + args.length + " parameter");
+                }
+                args[index] = handler.getReader(index).readValue(parser);
+                index++;
+            }
+        } else {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                int index = handler.indexOf(parser.currentName());
+                parser.nextToken();
+                if (index < 0) {
+                    parser.skipChildren();
+                    continue;
+                }
+                args[index] = handler.getReader(index).readValue(parser);
+            }
+        }
+        handler.checkRequired(args);
+        return args;
+    }
+
+    private JsonRpcHandler select(List<JsonRpcHandler> candidates, TokenBuffer params) throws IOException {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        int positional = -1;
+        Set<String> names = new HashSet<>();
+        try (JsonParser parser = params.asParser()) {
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                positional = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                    positional++;
+                }
+            } else {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    names.add(parser.currentName());
+                    parser.nextToken();
+                    parser.skipChildren();
+                }
+            }
+        }
+        for (JsonRpcHandler candidate : candidates) {
+            if (positional >= 0 ? positional <= candidate.getParameterCount() : names.stream().allMatch(name -> candidate.indexOf(name) >= 0)) {
+                return candidate;
+            }
+        }
+        // params yang tidak dikenal diabaikan, sama seperti method tanpa overload
+        return candidates.get(candidates.size() - 1);
+    }
+
+    private static Object readId(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new JsonRpcException(JsonRpcError.INVALID_REQUEST, "id harus berupa string atau angka");
+        }
+    }
+
+    // setelah kesalahan di tengah request, lewati sisa token sampai akhir object request;
+    // id yang muncul setelah titik kesalahan tetap dibaca agar response error bisa dicocokkan klien
+    private static void skipToEnd(JsonParser parser, int depth, Call call) throws IOException {
+        while (parser.currentToken() != JsonToken.END_OBJECT || parser.getParsingContext().getNestingDepth() != depth) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                // JSON terpotong di tengah request
+                throw new JsonParseException(parser, "Unexpected end of input");
+            }
+            if (token == JsonToken.FIELD_NAME && parser.getParsingContext().getNestingDepth() == depth + 1
+                    && parser.currentName().equals("id")) {
+                parser.nextToken();
+                call.notification = false;
+                try {
+                    call.id = readId(parser);
+                } catch (JsonRpcException e) {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    // batch dijalankan paralel; request tunggal di thread pemanggil
+    private void execute(Request request) {
+        if (!request.batch) {
+            request.calls.forEach(this::invoke);
+            return;
+        }
+        CompletableFuture<?>[] running = new CompletableFuture<?>[request.calls.size()];
+        for (int i = 0; i < running.length; i++) {
+            Call call = request.calls.get(i);
+            running[i] = CompletableFuture.runAsync(() -> invoke(call), executor);
+        }
+        CompletableFuture.allOf(running).join();
+    }
+
+    private void invoke(Call call) {
+        if (call.error != null) {
+            return;
+        }
+        try {
+            call.result = call.handler.invoke(call.args);
+        } catch (JsonRpcException e) {
+            call.fail(e.getCode(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // validasi di service: pesannya memang ditujukan ke klien
+            call.fail(JsonRpcError.INTERNAL_ERROR, e.getMessage() != null ? e.getMessage() : "Internal error");
+        } catch (Throwable e) {
+            // pesan exception lain (SQL, constraint, detail internal) hanya masuk log
+            logger.warn("Method JSON-RPC {} gagal", call.handler.getName(), e);
+            call.fail(JsonRpcError.INTERNAL_ERROR, "Internal error");
+        }
+    }
+
+    private void write(Request request, JsonGenerator generator) throws IOException {
+        if (request.batch) {
+            generator.writeStartArray();
+        }
+        for (Call call : request.calls) {
+            if (!call.notification) {
+                writeResponse(call, generator);
+            }
+        }
+        if (request.batch) {
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeResponse(Call call, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("jsonrpc", "2.0");
+        if (call.error == null) {
+            generator.writeFieldName("result");
+            call.handler.writeResult(generator, call.result);
+        } else {
+            generator.writeObjectFieldStart("error");
+            generator.writeNumberField("code", call.error.getCode());
+            generator.writeStringField("message", call.error.getMessage());
+            generator.writeEndObject();
+        }
+        generator.writeFieldName("id");
+        generator.writeObject(call.id);
+        generator.writeEndObject();
+    }
+
+    private static final class Request {
+        private final List<Call> calls;
+        private final boolean batch;
+
+        Request(List<Call> calls, boolean batch) {
+            this.calls = calls;
+            this.batch = batch;
+        }
+
+        // kesalahan yang mengenai seluruh request dijawab dengan satu response ber-id null
+        static Request error(int code, String message) {
+            Call call = new Call();
+            call.fail(code, message);
+            return new Request(List.of(call), false);
+        }
+
+        boolean hasResponse() {
+            return calls.stream().anyMatch(call -> !call.notification);
+        }
+    }
+
+    private static final class Call {
+        // tanpa member "id" sama sekali; "id": null tetap mendapat response
+        private boolean notification = true;
+        private Object id;
+        private JsonRpcHandler handler;
+        private Object[] args;
+        private Object result;
+        private JsonRpcError error;
+
+        // Invalid Request selalu dijawab (dengan id null bila id tidak terbaca); kesalahan lain pada notifikasi tidak
+        void fail(int code, String message) {
+            error = new JsonRpcError(code, message);
+            if (code == JsonRpcError.INVALID_REQUEST || code == JsonRpcError.PARSE_ERROR) {
+                notification = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.polstat.perpustakaan.rpc;
+// objek error JSON-RPC 2.0; kode -32768 sampai -32000 dicadangkan oleh spesifikasi
+public class JsonRpcError {
+    public static final int PARSE_ERROR = -32700;
+    public static final int INVALID_REQUEST = -32600;
+    public static final int METHOD_NOT_FOUND = -32601;
+    public static final int INVALID_PARAMS = -32602;
+    public static final int INTERNAL_ERROR = -32603;
+
+    private int code;
+    private String message;
+
+    public int getCode() {
+        return code;
+    }
+    public void setCode(int code) {
+        this.code = code;
+    }
+    public String getMessage() {
+        return message;
+    }
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    public JsonRpcError(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+    public JsonRpcError() {
+    }
+}
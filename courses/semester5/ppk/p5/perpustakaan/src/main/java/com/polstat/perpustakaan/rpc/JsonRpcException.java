@@ -0,0 +1,13 @@
+package com.polstat.perpustakaan.rpc;
+// dilempar saat memproses satu pemanggilan; diubah menjadi JsonRpcError dengan kode yang sama
+public class JsonRpcException extends RuntimeException {
+    private final int code;
+
+    public JsonRpcException(int code, String message) {
+        super(message);
+        this.code = code;
+    }
+    public int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,93 @@
+package com.polstat.perpustakaan.rpc;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedMethod;
+import org.springframework.lang.Nullable;
+
+// satu method JSON-RPC yang sudah disiapkan saat startup: MethodHandle ke bean, reader per argumen, writer untuk hasil
+final class JsonRpcHandler {
+    private final String name;
+    private final MethodHandle invoker;
+    private final String[] parameterNames;
+    private final ObjectReader[] readers;
+    private final boolean[] required;
+    private final ObjectWriter resultWriter;
+
+    JsonRpcHandler(String name, Object bean, Method method, ObjectMapper objectMapper) {
+        this.name = name;
+        MethodParameter[] parameters = new AnnotatedMethod(method).getMethodParameters();
+        int count = parameters.length;
+        parameterNames = new String[count];
+        readers = new ObjectReader[count];
+        required = new boolean[count];
+        DefaultParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+        for (int i = 0; i < count; i++) {
+            parameters[i].initParameterNameDiscovery(nameDiscoverer);
+            parameterNames[i] = parameters[i].getParameterName();
+            if (parameterNames[i] == null) {
+                throw new IllegalStateException("Nama parameter " + method + " tidak tersedia, kompilasi dengan -parameters");
+            }
+            readers[i] = objectMapper.readerFor(objectMapper.constructType(parameters[i].getGenericParameterType()));
+            required[i] = !parameters[i].hasParameterAnnotation(Nullable.class);
+        }
+        resultWriter = objectMapper.writerFor(objectMapper.constructType(method.getGenericReturnType()))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try {
+            invoker = MethodHandles.publicLookup().unreflect(method)
+                    .bindTo(bean)
+                    .asSpreader(Object[].class, count)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method JSON-RPC harus public: " + method, e);
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getParameterCount() {
+        return parameterNames.length;
+    }
+
+    // jumlah argumen sedikit, pencarian linear lebih murah daripada HashMap
+    int indexOf(String parameterName) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(parameterName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    ObjectReader getReader(int index) {
+        return readers[index];
+    }
+
+    void checkRequired(Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (required[i] && args[i] == null) {
+                throw new JsonRpcException(JsonRpcError.INVALID_PARAMS, "Parameter '" + parameterNames[i] + "' wajib diisi");
+            }
+        }
+    }
+
+    Object invoke(Object[] args) throws Throwable {
+        return (Object) invoker.invokeExact(args);
+    }
+
+    void writeResult(JsonGenerator generator, Object result) throws IOException {
+        resultWriter.writeValue(generator, result);
+    }
+}
@@ -0,0 +1,17 @@
+package com.polstat.perpustakaan.rpc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// menandai method service yang bisa dipanggil lewat JSON-RPC dengan nama value().
+// params diikat ke argumen berdasarkan nama (object) atau posisi (array); argumen @Nullable boleh tidak dikirim.
+// Beberapa method boleh memakai nama yang sama: dipilih yang paling sedikit argumennya dan memuat semua params.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface JsonRpcMethod {
+    String value();
+}
@@ -1,34 +0,0 @@
-package com.polstat.perpustakaan.rpc;
-import com.fasterxml.jackson.databind.JsonNode;
-public class JsonRpcRequest {
-    private String jsonrpc;
-    private String method;
-    private JsonNode params;
-    private String id;
-//tambahkan method getter dan setter
-
-    public String getJsonrpc() {
-        return jsonrpc;
-    }
-    public void setJsonrpc(String jsonrpc) {
-        this.jsonrpc = jsonrpc;
-    }
-    public String getMethod() {
-        return method;
-    }
-    public void setMethod(String method) {
-        this.method = method;
-    }
-    public JsonNode getParams() {
-        return params;
-    }
-    public void setParams(JsonNode params) {
-        this.params = params;
-    }
-    public String getId() {
-        return id;
-    }
-    public void setId(String id) {
-        this.id = id;
-    }
-}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.polstat.perpustakaan.rpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+// JSON-RPC lewat WebSocket: setiap pesan teks berisi satu request atau batch dan diproses JsonRpcDispatcher yang sama
+// dengan POST /jsonrpc. Klien boleh mengirim request berikutnya tanpa menunggu response (pipelining); response dikirim
+// begitu selesai, jadi urutannya bisa berbeda dari request dan dicocokkan dengan id.
+public class JsonRpcWebSocketHandler extends TextWebSocketHandler {
+    private static final Logger logger = LoggerFactory.getLogger(JsonRpcWebSocketHandler.class);
+    private static final String IN_FLIGHT = JsonRpcWebSocketHandler.class.getName() + ".inFlight";
+    private static final String SENDER = JsonRpcWebSocketHandler.class.getName() + ".sender";
+
+    private final JsonRpcDispatcher dispatcher;
+    private final int maxInFlight;
+    private final Duration inFlightTimeout;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+
+    public JsonRpcWebSocketHandler(JsonRpcDispatcher dispatcher, int maxInFlight, Duration inFlightTimeout,
+                                   Duration sendTimeLimit, int sendBufferSizeLimit) {
+        this.dispatcher = dispatcher;
+        this.maxInFlight = maxInFlight;
+        this.inFlightTimeout = inFlightTimeout;
+        this.sendTimeLimit = (int) sendTimeLimit.toMillis();
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(IN_FLIGHT, new Semaphore(maxInFlight));
+        // response dikirim dari thread eksekutor secara bersamaan; klien yang tidak membaca response sampai buffer
+        // kirim melewati batas (atau pengiriman macet melebihi sendTimeLimit) akan diputus
+        session.getAttributes().put(SENDER, new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, sendBufferSizeLimit));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        Semaphore inFlight = (Semaphore) session.getAttributes().get(IN_FLIGHT);
+        // backpressure per koneksi: selama maxInFlight pesan belum selesai, thread ini menunggu sehingga Tomcat
+        // berhenti membaca koneksi tersebut dan klien tertahan oleh TCP
+        if (!inFlight.tryAcquire(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("Terlalu banyak request yang belum selesai"));
+            return;
+        }
+        CompletableFuture<byte[]> response;
+        try {
+            response = dispatcher.handleAsync(new ByteArrayInputStream(message.asBytes()));
+        } catch (IOException | RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        WebSocketSession sender = (WebSocketSession) session.getAttributes().get(SENDER);
+        response.whenComplete((payload, error) -> {
+            inFlight.release();
+            if (error != null) {
+                logger.warn("Pesan JSON-RPC WebSocket gagal diproses", error);
+            } else if (payload != null) {
+                send(sender, new TextMessage(payload));
+            }
+        });
+    }
+
+    private static void send(WebSocketSession sender, TextMessage message) {
+        if (!sender.isOpen()) {
+            return;
+        }
+        try {
+            sender.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            // sesi sudah ditutup oleh ConcurrentWebSocketSessionDecorator
+            logger.info("Koneksi JSON-RPC WebSocket {} diputus: {}", sender.getId(), e.getMessage());
+        } catch (IOException e) {
+            logger.debug("Response JSON-RPC WebSocket gagal dikirim ke {}", sender.getId(), e);
+        }
+    }
+}
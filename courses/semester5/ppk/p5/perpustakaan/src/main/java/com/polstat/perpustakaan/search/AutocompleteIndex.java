@@ -0,0 +1,314 @@
+package com.polstat.perpustakaan.search;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+// radix trie (prefiks bersama disimpan sekali di label edge) berisi judul dan penulis buku
+@Component
+public class AutocompleteIndex implements BookIndex {
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // kandidat terburuk di kepala heap: count terkecil, lalu yang ditemukan paling akhir
+    private static final Comparator<Candidate> WORST_FIRST =
+            Comparator.comparingInt((Candidate c) -> c.count).thenComparing(c -> c.order, Comparator.reverseOrder());
+
+    private Node root = new Node("");
+    private int keyCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static final class Node {
+        String label;
+        // diurutkan berdasarkan karakter pertama label
+        Node[] children = NO_CHILDREN;
+        // teks asli yang ditampilkan, null jika node bukan akhir sebuah key
+        String display;
+        // jumlah buku yang memakai key ini
+        int count;
+        // count terbesar di subtree ini, untuk memangkas pencarian top-k
+        int maxCount;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int childIndex(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int pos, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, pos);
+            grown[pos] = child;
+            System.arraycopy(children, pos, grown, pos + 1, children.length - pos);
+            children = grown;
+        }
+
+        void removeChild(int pos) {
+            Node[] shrunk = children.length == 1 ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, pos);
+            System.arraycopy(children, pos + 1, shrunk, pos, children.length - pos - 1);
+            children = shrunk;
+        }
+    }
+
+    private static final class Candidate {
+        final String display;
+        final int count;
+        // urutan kunjungan = urutan leksikografis key
+        final int order;
+
+        Candidate(String display, int count, int order) {
+            this.display = display;
+            this.count = count;
+            this.order = order;
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root = new Node("");
+            keyCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Book previous, Book current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                remove(previous.getTitle());
+                remove(previous.getAuthor());
+            }
+            if (current != null) {
+                insert(current.getTitle());
+                insert(current.getAuthor());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // key yang dipakai paling banyak buku lebih dulu; bila sama, leksikografis (key lebih pendek lebih dulu)
+    public List<String> complete(String prefix, int limit) {
+        String key = keyOf(prefix);
+        List<String> result = new ArrayList<>(Math.max(limit, 0));
+        if (limit <= 0) {
+            return result;
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int matched = 0;
+            while (matched < key.length()) {
+                int pos = node.childIndex(key.charAt(matched));
+                if (pos < 0) {
+                    return result;
+                }
+                Node child = node.children[pos];
+                int common = commonPrefix(child.label, key, matched);
+                if (matched + common == key.length()) {
+                    node = child;
+                    break;
+                }
+                if (common < child.label.length()) {
+                    return result;
+                }
+                node = child;
+                matched += common;
+            }
+            PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            collect(node, limit, best, new int[1]);
+            List<Candidate> ranked = new ArrayList<>(best);
+            ranked.sort(Collections.reverseOrder(WORST_FIRST));
+            for (Candidate candidate : ranked) {
+                result.add(candidate.display);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int keyCount() {
+        lock.readLock().lock();
+        try {
+            return keyCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // top-k dengan heap berukuran limit; subtree yang maxCount-nya tidak bisa mengalahkan
+    // kandidat terburuk dilewati (key di subtree itu juga kalah urutan leksikografis)
+    private static void collect(Node node, int limit, PriorityQueue<Candidate> best, int[] order) {
+        if (best.size() >= limit && node.maxCount <= best.peek().count) {
+            return;
+        }
+        if (node.display != null) {
+            best.add(new Candidate(node.display, node.count, order[0]++));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        for (Node child : node.children) {
+            collect(child, limit, best, order);
+        }
+    }
+
+    private void insert(String text) {
+        String key = keyOf(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int matched = 0;
+        while (true) {
+            path.add(node);
+            if (matched == key.length()) {
+                if (node.count++ == 0) {
+                    node.display = text.trim();
+                    keyCount++;
+                }
+                raiseMaxCount(path, node.count);
+                return;
+            }
+            int pos = node.childIndex(key.charAt(matched));
+            if (pos < 0) {
+                Node leaf = new Node(key.substring(matched));
+                leaf.display = text.trim();
+                leaf.count = 1;
+                leaf.maxCount = 1;
+                node.insertChild(-pos - 1, leaf);
+                keyCount++;
+                raiseMaxCount(path, 1);
+                return;
+            }
+            Node child = node.children[pos];
+            int common = commonPrefix(child.label, key, matched);
+            if (common < child.label.length()) {
+                // pecah edge: child menjadi anak dari node perantara
+                Node middle = new Node(child.label.substring(0, common));
+                middle.maxCount = child.maxCount;
+                child.label = child.label.substring(common);
+                middle.children = new Node[] {child};
+                node.children[pos] = middle;
+                child = middle;
+            }
+            node = child;
+            matched += common;
+        }
+    }
+
+    private void remove(String text) {
+        String key = keyOf(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int pos = node.childIndex(key.charAt(matched));
+            if (pos < 0) {
+                return;
+            }
+            Node child = node.children[pos];
+            int common = commonPrefix(child.label, key, matched);
+            if (common < child.label.length()) {
+                return;
+            }
+            node = child;
+            path.add(node);
+            matched += common;
+        }
+        if (node.count == 0) {
+            return;
+        }
+        if (--node.count == 0) {
+            node.display = null;
+            keyCount--;
+            compact(path);
+        }
+        recomputeMaxCount(path);
+    }
+
+    private static void raiseMaxCount(List<Node> path, int count) {
+        for (Node node : path) {
+            node.maxCount = Math.max(node.maxCount, count);
+        }
+    }
+
+    // dari bawah ke atas; node yang sudah dibuang compact() ikut dihitung tetapi tidak berpengaruh
+    private static void recomputeMaxCount(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int max = node.count;
+            for (Node child : node.children) {
+                max = Math.max(max, child.maxCount);
+            }
+            node.maxCount = max;
+        }
+    }
+
+    // buang node kosong dan gabungkan node perantara yang hanya punya satu anak
+    private static void compact(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.display != null) {
+                return;
+            }
+            int pos = parent.childIndex(node.label.charAt(0));
+            if (node.children.length == 0) {
+                parent.removeChild(pos);
+            } else if (node.children.length == 1) {
+                Node only = node.children[0];
+                only.label = node.label + only.label;
+                parent.children[pos] = only;
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String keyOf(String text) {
+        return WHITESPACE.matcher(Tokenizer.normalize(text).trim()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,117 @@
+package com.polstat.perpustakaan.search;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+// BK-tree atas kamus token, untuk mencari token dengan jarak Levenshtein <= maxDistance
+public class BkTree {
+    private Node root;
+    private int size;
+
+    private static final class Node {
+        final String term;
+        Map<Integer, Node> children;
+        // jarak edge anak terbesar; 0 bila tidak punya anak
+        int maxChildDistance;
+
+        Node(String term) {
+            this.term = term;
+        }
+    }
+
+    public void add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            // jarak harus persis karena menjadi label edge
+            int distance = distance(node.term, term, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return;
+            }
+            if (node.children == null) {
+                node.children = new HashMap<>(4);
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(term));
+                node.maxChildDistance = Math.max(node.maxChildDistance, distance);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // term -> jarak edit
+    public Map<String, Integer> search(String term, int maxDistance) {
+        Map<String, Integer> result = new HashMap<>();
+        if (root == null) {
+            return result;
+        }
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            // jarak di atas maxDistance + maxChildDistance tidak perlu persis: node bukan hasil dan
+            // tidak ada anak di rentang [d - max, d + max] (pada daun cukup diperiksa <= maxDistance)
+            int distance = distance(node.term, term, maxDistance + node.maxChildDistance);
+            if (distance <= maxDistance) {
+                result.put(node.term, distance);
+            }
+            if (node.children != null) {
+                // ketaksamaan segitiga: hanya anak dengan jarak di [d - max, d + max] yang perlu diperiksa
+                int to = Math.min(distance + maxDistance, node.maxChildDistance);
+                for (int d = Math.max(1, distance - maxDistance); d <= to; d++) {
+                    Node child = node.children.get(d);
+                    if (child != null) {
+                        stack.push(child);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // Levenshtein dengan dua baris; berhenti lebih awal jika seluruh baris sudah melebihi limit
+    public static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,10 @@
+package com.polstat.perpustakaan.search;
+
+import com.polstat.perpustakaan.entity.Book;
+
+public interface BookIndex {
+    void clear();
+
+    // previous == null berarti buku baru, current == null berarti buku dihapus
+    void update(Book previous, Book current);
+}
@@ -0,0 +1,125 @@
+package com.polstat.perpustakaan.search;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.event.BookChangedEvent;
+import com.polstat.perpustakaan.event.BookIndexedEvent;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.repository.BookRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class BookIndexer {
+    private static final Logger logger = LoggerFactory.getLogger(BookIndexer.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private List<BookIndex> indexes;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // salinan buku yang sudah diindeks, dipakai untuk membentuk hasil pencarian tanpa query ke database
+    private final Map<Long, Book> books = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        ready = false;
+        books.clear();
+        indexes.forEach(BookIndex::clear);
+
+        long lastId = 0L;
+        List<Book> batch;
+        do {
+            batch = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (Book book : batch) {
+                apply(book.getId(), copyOf(book));
+                lastId = book.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        ready = true;
+        logger.info("Indeks buku selesai dibangun: {} buku dalam {} ms", books.size(), System.currentTimeMillis() - start);
+    }
+
+    // hanya setelah commit (atau langsung bila tidak ada transaksi), agar perubahan yang di-rollback tidak pernah
+    // masuk indeks. BookIndexedEvent dikirim setelah semua indeks berubah, sehingga cache yang dibuang karenanya
+    // tidak bisa terisi lagi oleh pencarian yang masih membaca indeks lama
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onBookChanged(BookChangedEvent event) {
+        Book current = event.getType() == BookChangedEvent.Type.DELETED ? null : copyOf(event.getBook());
+        Book indexed = books.get(event.getBookId());
+        if (event.getChanges() != null && indexed != null) {
+            // UPDATE sebagian: kolom yang diubah diterapkan ke salinan terbaru di sini, bukan salinan yang dibaca saat
+            // transaksi berjalan, agar perubahan kolom lain dari transaksi serentak yang indeksnya diterapkan lebih
+            // belakangan tidak tertimpa
+            BookDto bookDto = BookMapper.mapToBookDto(indexed);
+            BookMapper.applyColumns(bookDto, event.getChanges());
+            current = BookMapper.mapToBook(bookDto);
+        }
+        Book previous = apply(event.getBookId(), current);
+        eventPublisher.publishEvent(new BookIndexedEvent(event.getBookId(), previous, current));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Book get(Long id) {
+        return books.get(id);
+    }
+
+    // buku yang sudah dihapus di antara pencarian dan pemanggilan ini dilewati
+    public List<Book> getBooks(List<Long> ids) {
+        List<Book> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Book book = books.get(id);
+            if (book != null) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return books.size();
+    }
+
+    private Book apply(Long id, Book current) {
+        Book previous = current == null ? books.remove(id) : books.put(id, current);
+        if (previous == null && current == null) {
+            return null;
+        }
+        for (BookIndex index : indexes) {
+            index.update(previous, current);
+        }
+        return previous;
+    }
+
+    private static Book copyOf(Book book) {
+        return Book.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .description(book.getDescription())
+                .build();
+    }
+}
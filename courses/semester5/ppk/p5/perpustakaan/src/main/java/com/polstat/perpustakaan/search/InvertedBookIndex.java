@@ -0,0 +1,344 @@
+package com.polstat.perpustakaan.search;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InvertedBookIndex implements BookIndex {
+    private static final int TITLE = 0;
+    private static final int AUTHOR = 1;
+    private static final int DESCRIPTION = 2;
+    private static final double[] FIELD_BOOST = {3.0, 2.0, 1.0};
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // deskripsi selalu diindeks untuk skor BM25, flag ini hanya menentukan pencocokan pada search()
+    @Value("${perpustakaan.search.index-description:false}")
+    private boolean indexDescription;
+
+    // token -> (id buku -> frekuensi token per field: judul, penulis, deskripsi)
+    private final Map<String, Map<Long, int[]>> postings = new HashMap<>();
+    // id buku -> jumlah token per field
+    private final Map<Long, int[]> fieldLengths = new HashMap<>();
+    private final long[] totalFieldLengths = new long[3];
+    // kamus token judul/penulis untuk pencarian fuzzy; token yang sudah tidak dipakai dibuang saat rebuild
+    private final BkTree fuzzyTerms = new BkTree();
+    private final Set<String> fuzzyTermSet = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            fieldLengths.clear();
+            Arrays.fill(totalFieldLengths, 0);
+            fuzzyTerms.clear();
+            fuzzyTermSet.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Book previous, Book current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                for (String token : termFrequencies(previous).keySet()) {
+                    Map<Long, int[]> docs = postings.get(token);
+                    if (docs != null) {
+                        docs.remove(previous.getId());
+                        if (docs.isEmpty()) {
+                            postings.remove(token);
+                        }
+                    }
+                }
+                int[] lengths = fieldLengths.remove(previous.getId());
+                if (lengths != null) {
+                    for (int f = 0; f < lengths.length; f++) {
+                        totalFieldLengths[f] -= lengths[f];
+                    }
+                }
+            }
+            if (current != null) {
+                Map<String, int[]> frequencies = termFrequencies(current);
+                int[] lengths = new int[3];
+                for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                    postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(current.getId(), entry.getValue());
+                    if (entry.getValue()[TITLE] + entry.getValue()[AUTHOR] > 0 && fuzzyTermSet.add(entry.getKey())) {
+                        fuzzyTerms.add(entry.getKey());
+                    }
+                    for (int f = 0; f < lengths.length; f++) {
+                        lengths[f] += entry.getValue()[f];
+                    }
+                }
+                fieldLengths.put(current.getId(), lengths);
+                for (int f = 0; f < lengths.length; f++) {
+                    totalFieldLengths[f] += lengths[f];
+                }
+            }
+            if (fuzzyTermSet.size() > 1024 && fuzzyTermSet.size() > 2 * postings.size()) {
+                rebuildFuzzyTerms();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // semua token kata kunci harus muncul (AND), hasil diurutkan berdasarkan id
+    public List<Long> search(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>(Tokenizer.tokenize(keyword));
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            if (tokens.isEmpty()) {
+                result.addAll(fieldLengths.keySet());
+            } else {
+                List<Map<Long, int[]>> lists = new ArrayList<>(tokens.size());
+                for (String token : tokens) {
+                    Map<Long, int[]> docs = postings.get(token);
+                    if (docs == null) {
+                        return List.of();
+                    }
+                    lists.add(docs);
+                }
+                lists.sort(Comparator.comparingInt(Map::size));
+                for (Long id : lists.get(0).keySet()) {
+                    if (matchesAll(lists, id)) {
+                        result.add(id);
+                    }
+                }
+            }
+            result.sort(null);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25F: buku yang memuat salah satu token diberi skor, hanya top-k yang disimpan di min-heap
+    public List<Long> searchRanked(String keyword, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(Tokenizer.tokenize(keyword));
+        lock.readLock().lock();
+        try {
+            int totalDocs = fieldLengths.size();
+            if (tokens.isEmpty() || totalDocs == 0 || limit <= 0) {
+                return List.of();
+            }
+            double[] avgLengths = averageFieldLengths();
+            Map<Long, Double> scores = new HashMap<>();
+            for (String token : tokens) {
+                Map<Long, int[]> docs = postings.get(token);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = idf(docs.size());
+                for (Map.Entry<Long, int[]> entry : docs.entrySet()) {
+                    scores.merge(entry.getKey(), score(idf, entry.getValue(), fieldLengths.get(entry.getKey()), avgLengths),
+                            Double::sum);
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // mengurutkan kandidat dari indeks lain (misalnya hasil LIKE trigram) dengan BM25F: kandidat tanpa token
+    // kata kunci yang utuh tetap ikut dengan skor 0, diurutkan berdasarkan id setelah kandidat yang punya skor
+    public List<Long> rank(String keyword, Collection<Long> candidates, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(Tokenizer.tokenize(keyword));
+        lock.readLock().lock();
+        try {
+            if (candidates.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            double[] avgLengths = averageFieldLengths();
+            List<Map<Long, int[]>> lists = new ArrayList<>(tokens.size());
+            List<Double> idfs = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, int[]> docs = postings.get(token);
+                if (docs != null) {
+                    lists.add(docs);
+                    idfs.add(idf(docs.size()));
+                }
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                double total = 0;
+                int[] lengths = fieldLengths.get(id);
+                for (int t = 0; t < lists.size() && lengths != null; t++) {
+                    int[] frequencies = lists.get(t).get(id);
+                    if (frequencies != null) {
+                        total += score(idfs.get(t), frequencies, lengths, avgLengths);
+                    }
+                }
+                scores.put(id, total);
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // setiap token kata kunci boleh salah ketik sampai maxEdits (dibatasi menurut panjang token),
+    // semua token harus cocok; urutan hasil: total jarak edit terkecil, lalu id
+    public List<Long> searchFuzzy(String keyword, int maxEdits, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(Tokenizer.tokenize(keyword));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> totalDistance = null;
+            for (String token : tokens) {
+                Map<Long, Integer> docs = new HashMap<>();
+                for (Map.Entry<String, Integer> term : fuzzyTerms.search(token, allowedEdits(token, maxEdits)).entrySet()) {
+                    Map<Long, int[]> postingList = postings.get(term.getKey());
+                    if (postingList == null) {
+                        continue;
+                    }
+                    for (Map.Entry<Long, int[]> doc : postingList.entrySet()) {
+                        if (doc.getValue()[TITLE] + doc.getValue()[AUTHOR] > 0) {
+                            docs.merge(doc.getKey(), term.getValue(), Math::min);
+                        }
+                    }
+                }
+                if (totalDistance == null) {
+                    totalDistance = docs;
+                } else {
+                    Map<Long, Integer> merged = new HashMap<>();
+                    for (Map.Entry<Long, Integer> entry : totalDistance.entrySet()) {
+                        Integer distance = docs.get(entry.getKey());
+                        if (distance != null) {
+                            merged.put(entry.getKey(), entry.getValue() + distance);
+                        }
+                    }
+                    totalDistance = merged;
+                }
+                if (totalDistance.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return totalDistance.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double[] averageFieldLengths() {
+        double[] avgLengths = new double[3];
+        for (int f = 0; f < avgLengths.length; f++) {
+            avgLengths[f] = Math.max(1.0, (double) totalFieldLengths[f] / Math.max(1, fieldLengths.size()));
+        }
+        return avgLengths;
+    }
+
+    private double idf(int docFrequency) {
+        return Math.log(1 + (fieldLengths.size() - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+
+    private static double score(double idf, int[] frequencies, int[] lengths, double[] avgLengths) {
+        double tf = 0;
+        for (int f = 0; f < FIELD_BOOST.length; f++) {
+            if (frequencies[f] > 0) {
+                tf += FIELD_BOOST[f] * frequencies[f] / (1 - B + B * lengths[f] / avgLengths[f]);
+            }
+        }
+        return idf * tf / (K1 + tf);
+    }
+
+    // skor tertinggi lebih dulu, skor sama diurutkan berdasarkan id; heap tidak lebih besar dari jumlah skor
+    private static List<Long> topK(Map<Long, Double> scores, int limit) {
+        Comparator<Map.Entry<Long, Double>> byRelevance = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+        PriorityQueue<Map.Entry<Long, Double>> topK = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, byRelevance);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (topK.size() < limit) {
+                topK.add(entry);
+            } else if (byRelevance.compare(entry, topK.peek()) > 0) {
+                topK.poll();
+                topK.add(entry);
+            }
+        }
+        Long[] result = new Long[topK.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = topK.poll().getKey();
+        }
+        return List.of(result);
+    }
+
+    // seperti fuzziness AUTO: token pendek tidak boleh salah ketik sebanyak token panjang
+    private static int allowedEdits(String token, int maxEdits) {
+        int byLength = token.length() <= 2 ? 0 : token.length() <= 5 ? 1 : 2;
+        return Math.min(maxEdits, byLength);
+    }
+
+    private void rebuildFuzzyTerms() {
+        fuzzyTerms.clear();
+        fuzzyTermSet.clear();
+        for (Map.Entry<String, Map<Long, int[]>> entry : postings.entrySet()) {
+            for (int[] frequencies : entry.getValue().values()) {
+                if (frequencies[TITLE] + frequencies[AUTHOR] > 0) {
+                    fuzzyTermSet.add(entry.getKey());
+                    fuzzyTerms.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean matchesAll(List<Map<Long, int[]>> lists, Long id) {
+        for (Map<Long, int[]> docs : lists) {
+            int[] frequencies = docs.get(id);
+            if (frequencies == null
+                    || frequencies[TITLE] + frequencies[AUTHOR] + (indexDescription ? frequencies[DESCRIPTION] : 0) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, int[]> termFrequencies(Book book) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        count(frequencies, book.getTitle(), TITLE);
+        count(frequencies, book.getAuthor(), AUTHOR);
+        count(frequencies, book.getDescription(), DESCRIPTION);
+        return frequencies;
+    }
+
+    private static void count(Map<String, int[]> frequencies, String text, int field) {
+        for (String token : Tokenizer.tokenize(text)) {
+            frequencies.computeIfAbsent(token, t -> new int[3])[field]++;
+        }
+    }
+}
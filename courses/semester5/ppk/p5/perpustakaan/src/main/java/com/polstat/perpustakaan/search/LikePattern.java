@@ -0,0 +1,117 @@
+package com.polstat.perpustakaan.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// meniru "kolom LIKE %:keyword%" di BookRepository.searchBooks: % dan _ adalah wildcard, perbandingan case- dan
+// accent-insensitive. \ bukan escape karena dialect MySQL Hibernate menggandakannya (replace(?,'\\','\\\\')).
+// Pola dipecah pada % menjadi segmen yang dicari berurutan dari kiri (tanpa regex dan backtracking),
+// sehingga waktu pencocokan paling lama O(panjang teks * panjang pola) apa pun isi kata kuncinya
+public class LikePattern {
+    private final List<Segment> segments;
+    private final List<String> literals;
+
+    private LikePattern(List<Segment> segments, List<String> literals) {
+        this.segments = segments;
+        this.literals = literals;
+    }
+
+    public static LikePattern contains(String keyword) {
+        String normalized = Tokenizer.normalize(keyword);
+        List<Segment> segments = new ArrayList<>();
+        List<String> literals = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        List<Integer> wildcards = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == '%') {
+                // %% sama dengan %: segmen kosong tidak disimpan
+                flush(literal, literals);
+                if (segment.length() > 0) {
+                    segments.add(new Segment(segment.toString(), wildcards));
+                    segment.setLength(0);
+                    wildcards.clear();
+                }
+            } else if (c == '_') {
+                flush(literal, literals);
+                wildcards.add(segment.length());
+                segment.append(c);
+            } else {
+                segment.append(c);
+                literal.append(c);
+            }
+        }
+        flush(literal, literals);
+        if (segment.length() > 0) {
+            segments.add(new Segment(segment.toString(), wildcards));
+        }
+        return new LikePattern(segments, literals);
+    }
+
+    // potongan teks literal di antara wildcard, sumber trigram kandidat
+    public List<String> getLiterals() {
+        return literals;
+    }
+
+    // pola selalu diapit %, jadi setiap segmen cukup dicari di posisi paling kiri setelah segmen sebelumnya
+    public boolean matches(String text) {
+        if (text == null) {
+            return false;
+        }
+        String normalized = Tokenizer.normalize(text);
+        int from = 0;
+        for (Segment segment : segments) {
+            int at = segment.indexIn(normalized, from);
+            if (at < 0) {
+                return false;
+            }
+            from = at + segment.text.length();
+        }
+        return true;
+    }
+
+    private static void flush(StringBuilder literal, List<String> literals) {
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+
+    // teks di antara dua %; posisi _ cocok dengan satu karakter apa pun
+    private static final class Segment {
+        private final String text;
+        private final boolean[] wildcard;
+        private final boolean hasWildcard;
+
+        private Segment(String text, List<Integer> wildcards) {
+            this.text = text;
+            this.wildcard = new boolean[text.length()];
+            for (int position : wildcards) {
+                wildcard[position] = true;
+            }
+            this.hasWildcard = !wildcards.isEmpty();
+        }
+
+        private int indexIn(String target, int from) {
+            if (!hasWildcard) {
+                return target.indexOf(text, from);
+            }
+            for (int start = from; start + text.length() <= target.length(); start++) {
+                if (matchesAt(target, start)) {
+                    return start;
+                }
+            }
+            return -1;
+        }
+
+        private boolean matchesAt(String target, int start) {
+            for (int i = 0; i < text.length(); i++) {
+                if (!wildcard[i] && target.charAt(start + i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
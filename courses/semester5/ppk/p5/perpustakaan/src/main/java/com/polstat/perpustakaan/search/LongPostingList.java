@@ -0,0 +1,95 @@
+package com.polstat.perpustakaan.search;
+
+import java.util.Arrays;
+
+// daftar id terurut dalam long[] agar hemat memori dibanding Set<Long>
+public class LongPostingList {
+    private long[] ids = new long[2];
+    private int size;
+
+    public void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    public void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        if (size > 0 && size < ids.length / 4) {
+            ids = Arrays.copyOf(ids, Math.max(2, ids.length / 2));
+        }
+    }
+
+    public void clear() {
+        ids = new long[2];
+        size = 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    public long get(int index) {
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    public long estimatedMemoryBytes() {
+        return 16 + 16 + 8L * ids.length;
+    }
+
+    // irisan dua daftar terurut (merge), dipakai untuk memfilter kandidat
+    public static long[] intersect(long[] sorted, LongPostingList list) {
+        long[] out = new long[Math.min(sorted.length, list.size)];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sorted.length && j < list.size) {
+            long a = sorted[i];
+            long b = list.ids[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.polstat.perpustakaan.search;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrigramBookIndex implements BookIndex {
+    // perkiraan overhead per entry HashMap: node + String 3 karakter + header LongPostingList
+    private static final long ENTRY_OVERHEAD_BYTES = 32 + 48;
+
+    private final Map<String, LongPostingList> postings = new HashMap<>();
+    private final LongPostingList allIds = new LongPostingList();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            allIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void update(Book previous, Book current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                for (String gram : trigramsOf(previous)) {
+                    LongPostingList ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(previous.getId());
+                        if (ids.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }
+                allIds.remove(previous.getId());
+            }
+            if (current != null) {
+                for (String gram : trigramsOf(current)) {
+                    postings.computeIfAbsent(gram, g -> new LongPostingList()).add(current.getId());
+                }
+                allIds.add(current.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // hasil sama dengan BookRepository.searchBooks: kandidat dari trigram lalu diverifikasi dengan pola LIKE
+    public List<Long> search(String keyword, Function<Long, Book> books) {
+        LikePattern pattern = LikePattern.contains(keyword);
+        long[] candidates = candidates(pattern);
+        List<Long> result = new ArrayList<>();
+        for (long id : candidates) {
+            Book book = books.apply(id);
+            if (book != null && (pattern.matches(book.getTitle()) || pattern.matches(book.getAuthor()))) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long postingCount() {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (LongPostingList ids : postings.values()) {
+                total += ids.size();
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long total = allIds.estimatedMemoryBytes() + 8L * Integer.highestOneBit(Math.max(1, postings.size()) * 2);
+            for (LongPostingList ids : postings.values()) {
+                total += ENTRY_OVERHEAD_BYTES + ids.estimatedMemoryBytes();
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] candidates(LikePattern pattern) {
+        lock.readLock().lock();
+        try {
+            List<LongPostingList> lists = new ArrayList<>();
+            for (String literal : pattern.getLiterals()) {
+                for (String gram : trigrams(literal)) {
+                    LongPostingList ids = postings.get(gram);
+                    if (ids == null) {
+                        return new long[0];
+                    }
+                    lists.add(ids);
+                }
+            }
+            if (lists.isEmpty()) {
+                // kata kunci < 3 karakter: semua buku jadi kandidat
+                return allIds.toArray();
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            long[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = LongPostingList.intersect(result, lists.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> trigramsOf(Book book) {
+        Set<String> grams = trigrams(Tokenizer.normalize(book.getTitle()));
+        grams.addAll(trigrams(Tokenizer.normalize(book.getAuthor())));
+        return grams;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -1,11 +1,56 @@
 package com.polstat.perpustakaan.service;
 import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.BookImportResult;
+import com.polstat.perpustakaan.dto.CursorPage;
+import com.polstat.perpustakaan.rpc.JsonRpcMethod;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.springframework.lang.Nullable;
 public interface BookService {
     BookDto createBook(BookDto bookDto);
+    // bentuk JSON-RPC createBook: params title, author, description; id buku selalu dibuat baru
+    @JsonRpcMethod("createBook")
+    default BookDto createBook(String title, String author, @Nullable String description) {
+        return createBook(BookDto.builder()
+                .title(title)
+                .author(author)
+                .description(description)
+                .build());
+    }
+    // impor banyak buku sekaligus dengan JDBC batch; hasil per buku sesuai urutan masukan
+    List<BookImportResult> createBooks(List<BookDto> bookDtos);
+    @JsonRpcMethod("getBooks")
     List<BookDto> getBooks();
+    // hanya kolom yang disebut di fields (nama atribut Book) yang di-SELECT, field lain di BookDto tetap null
+    List<BookDto> getBooks(Collection<String> fields);
+    // keyset pagination berdasarkan id: buku dengan id > cursor, paling banyak limit buku
+    @JsonRpcMethod("getBooks")
+    CursorPage<BookDto> getBooks(@Nullable Long cursor, @Nullable Integer limit);
+    // seluruh katalog berurutan id, satu per satu, tanpa menampung semua buku di memori
+    void exportBooks(Consumer<BookDto> consumer);
     List<BookDto> searchBooks(String keyword);
+    // limit != null: hasil diurutkan berdasarkan relevansi (BM25) dan dibatasi limit (paling banyak 1000)
+    List<BookDto> searchBooks(String keyword, Integer limit);
+    // toleran salah ketik: tiap kata boleh berbeda sampai maxEdits huruf (default 2)
+    List<BookDto> searchBooksFuzzy(String keyword, Integer maxEdits, Integer limit);
+    // bentuk JSON-RPC searchBooks: fuzzy=true memakai searchBooksFuzzy
+    @JsonRpcMethod("searchBooks")
+    default List<BookDto> searchBooks(String keyword, @Nullable Boolean fuzzy, @Nullable Integer maxEdits, @Nullable Integer limit) {
+        if (Boolean.TRUE.equals(fuzzy)) {
+            return searchBooksFuzzy(keyword, maxEdits, limit);
+        }
+        return searchBooks(keyword, limit);
+    }
+    List<String> autocomplete(String prefix, Integer limit);
     BookDto getBook(Long id);
+    // untuk DataLoader GraphQL: semua id dimuat dengan satu query WHERE id IN (...); id yang tidak ada tidak ikut di map
+    Map<Long, BookDto> getBooksById(Collection<Long> ids);
     BookDto updateBook(BookDto bookDto);
+    // satu UPDATE untuk kolom di changes saja (nama atribut Book -> nilai baru); kolom lain tidak disentuh
+    BookDto updateBook(Long id, Map<String, Object> changes);
     void deleteBook(BookDto bookDto);
+    // satu DELETE berdasarkan id
+    void deleteBook(Long id);
 }
@@ -1,28 +1,123 @@
 package com.polstat.perpustakaan.service;
 import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.BookImportResult;
+import com.polstat.perpustakaan.dto.CursorPage;
 import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.event.BookChangedEvent;
 import com.polstat.perpustakaan.mapper.BookMapper;
 import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.repository.ColumnProjection;
+import com.polstat.perpustakaan.repository.ColumnUpdate;
+import com.polstat.perpustakaan.search.AutocompleteIndex;
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.search.InvertedBookIndex;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 @Service
 public class BookServiceImpl implements BookService{
     private static final Logger logger = LoggerFactory.getLogger(BookServiceImpl.class);
+    private static final int DEFAULT_AUTOCOMPLETE_LIMIT = 10;
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+    private static final int DEFAULT_MAX_EDITS = 2;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 1000;
+    private static final int IMPORT_BATCH_SIZE = Book.ID_ALLOCATION_SIZE;
+    private static final int MAX_TEXT_LENGTH = 255;
     @Autowired
     private BookRepository bookRepository;
+    @Autowired
+    private BookIndexer bookIndexer;
+    @Autowired
+    private InvertedBookIndex invertedBookIndex;
+    @Autowired
+    private AutocompleteIndex autocompleteIndex;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private List<SearchBackend> searchBackends;
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    // nama SearchBackend: trigram, index, fulltext atau like
+    @Value("${perpustakaan.search.mode:trigram}")
+    private String searchMode;
+
+    private final Map<String, SearchBackend> backendsByName = new HashMap<>();
+
+    @PostConstruct
+    void initSearchBackends() {
+        for (SearchBackend backend : searchBackends) {
+            backendsByName.put(backend.getName(), backend);
+        }
+        if (!backendsByName.containsKey(searchMode)) {
+            throw new IllegalStateException("perpustakaan.search.mode tidak dikenal: " + searchMode
+                    + ", pilihan: " + backendsByName.keySet());
+        }
+    }
 
     @Override
     public BookDto createBook(BookDto bookDto) {
         Book book = bookRepository.save(BookMapper.mapToBook(bookDto));
+        eventPublisher.publishEvent(BookChangedEvent.created(book));
         return BookMapper.mapToBookDto(book);
     }
 
+    @Override
+    public List<BookImportResult> createBooks(List<BookDto> bookDtos) {
+        List<BookImportResult> results = new ArrayList<>(bookDtos.size());
+        List<Integer> chunk = new ArrayList<>(IMPORT_BATCH_SIZE);
+        for (int i = 0; i < bookDtos.size(); i++) {
+            String problem = validate(bookDtos.get(i));
+            results.add(BookImportResult.builder()
+                    .index(i)
+                    .status(problem == null ? BookImportResult.Status.CREATED : BookImportResult.Status.INVALID)
+                    .message(problem)
+                    .build());
+            if (problem != null) {
+                continue;
+            }
+            chunk.add(i);
+            if (chunk.size() == IMPORT_BATCH_SIZE) {
+                saveChunk(bookDtos, chunk, results);
+                chunk = new ArrayList<>(IMPORT_BATCH_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(bookDtos, chunk, results);
+        }
+        return results;
+    }
+
     @Override
     public List<BookDto> getBooks() {
         List<Book> books = bookRepository.findAll();
@@ -33,26 +128,226 @@ public class BookServiceImpl implements BookService{
     }
 
     @Override
-    public List<BookDto> searchBooks(String keyword) {
-        List<Book> books = bookRepository.searchBooks(keyword);
-        return books.stream()
+    public List<BookDto> getBooks(Collection<String> fields) {
+        return ColumnProjection.findAll(entityManager, Book.class, fields).stream()
                 .map(BookMapper::mapToBookDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorPage<BookDto> getBooks(Long cursor, Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit harus lebih dari 0");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        // ambil satu baris lebih untuk mengetahui apakah masih ada halaman berikutnya
+        List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0L : cursor, Limit.of(size + 1));
+        boolean hasNext = books.size() > size;
+        List<BookDto> items = books.stream()
+                .limit(size)
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+        return CursorPage.<BookDto>builder()
+                .items(items)
+                .nextCursor(items.isEmpty() ? cursor : items.get(items.size() - 1).getId())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBooks(Consumer<BookDto> consumer) {
+        try (Stream<Book> books = bookRepository.streamAllOrderById()) {
+            books.forEach(book -> {
+                consumer.accept(BookMapper.mapToBookDto(book));
+                // lepas dari persistence context agar memori tetap konstan
+                entityManager.detach(book);
+            });
+        }
+    }
+
+    @Override
+    public List<BookDto> searchBooks(String keyword) {
+        return searchResultCache.get(keyword, null, () -> activeSearchBackend().search(keyword));
+    }
+
+    @Override
+    public List<BookDto> searchBooks(String keyword, Integer limit) {
+        if (limit == null) {
+            return searchBooks(keyword);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit harus lebih dari 0");
+        }
+        int size = Math.min(limit, MAX_SEARCH_LIMIT);
+        return searchResultCache.get(keyword, size, () -> activeSearchBackend().search(keyword, size));
+    }
+
+    @Override
+    public List<BookDto> searchBooksFuzzy(String keyword, Integer maxEdits, Integer limit) {
+        if (!bookIndexer.isReady()) {
+            return searchBooks(keyword, limit);
+        }
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit harus lebih dari 0");
+        }
+        int edits = maxEdits == null ? DEFAULT_MAX_EDITS : Math.max(0, Math.min(maxEdits, DEFAULT_MAX_EDITS));
+        Integer size = limit == null ? null : Math.min(limit, MAX_SEARCH_LIMIT);
+        return searchResultCache.getFuzzy(keyword, edits, size, () ->
+                bookIndexer.getBooks(invertedBookIndex.searchFuzzy(keyword, edits, size == null ? Integer.MAX_VALUE : size)).stream()
+                        .map(BookMapper::mapToBookDto)
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, Integer limit) {
+        int max = limit == null ? DEFAULT_AUTOCOMPLETE_LIMIT : Math.min(Math.max(limit, 1), MAX_AUTOCOMPLETE_LIMIT);
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        if (bookIndexer.isReady()) {
+            return autocompleteIndex.complete(prefix, max);
+        }
+        String lowerPrefix = prefix.trim().toLowerCase();
+        Set<String> suggestions = new LinkedHashSet<>();
+        for (Book book : bookRepository.findByPrefix(prefix.trim(), PageRequest.of(0, max))) {
+            if (book.getTitle().toLowerCase().startsWith(lowerPrefix)) {
+                suggestions.add(book.getTitle());
+            }
+            if (book.getAuthor().toLowerCase().startsWith(lowerPrefix)) {
+                suggestions.add(book.getAuthor());
+            }
+        }
+        return suggestions.stream().limit(max).collect(Collectors.toList());
+    }
+
     @Override
     public BookDto getBook(Long id) {
         Book book = bookRepository.getReferenceById(id);
         return BookMapper.mapToBookDto(book);
     }
 
+    @Override
+    public Map<Long, BookDto> getBooksById(Collection<Long> ids) {
+        return bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, BookMapper::mapToBookDto));
+    }
+
     @Override
     public BookDto updateBook(BookDto bookDto) {
         Book book = bookRepository.save(BookMapper.mapToBook(bookDto));
+        eventPublisher.publishEvent(BookChangedEvent.updated(book));
         return BookMapper.mapToBookDto(book);
     }
+    @Override
+    @Transactional
+    public BookDto updateBook(Long id, Map<String, Object> changes) {
+        String problem = validateChanges(changes);
+        if (problem != null) {
+            throw new IllegalArgumentException(problem);
+        }
+        // UPDATE mengunci baris sampai commit, jadi perubahan serentak pada buku yang sama menunggu di sini
+        if (!changes.isEmpty() && ColumnUpdate.update(entityManager, Book.class, id, changes) == 0) {
+            throw new EntityNotFoundException("Buku tidak ditemukan");
+        }
+        // kolom yang tidak diubah diambil dari BookIndexer; SELECT hanya bila indeks belum memuat buku ini
+        Book current = bookIndexer.get(id);
+        if (current == null) {
+            current = bookRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Buku tidak ditemukan"));
+        }
+        BookDto bookDto = BookMapper.mapToBookDto(current);
+        BookMapper.applyColumns(bookDto, changes);
+        if (!changes.isEmpty()) {
+            // BookIndexer menerapkan changes ke salinannya setelah commit
+            eventPublisher.publishEvent(BookChangedEvent.updated(BookMapper.mapToBook(bookDto), changes));
+        }
+        return bookDto;
+    }
+
     @Override
     public void deleteBook(BookDto bookDto) {
         bookRepository.delete(BookMapper.mapToBook(bookDto));
+        eventPublisher.publishEvent(BookChangedEvent.deleted(bookDto.getId()));
+    }
+
+    @Override
+    @Transactional
+    public void deleteBook(Long id) {
+        if (bookRepository.deleteBookById(id) == 0) {
+            throw new EntityNotFoundException("Buku tidak ditemukan");
+        }
+        eventPublisher.publishEvent(BookChangedEvent.deleted(id));
+    }
+
+    // satu transaksi (dan satu JDBC batch) per chunk; bila gagal, buku di chunk itu dicoba satu per satu
+    // agar hanya buku yang bermasalah yang berstatus FAILED
+    private void saveChunk(List<BookDto> bookDtos, List<Integer> indexes, List<BookImportResult> results) {
+        List<Book> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Book> books = bookRepository.saveAll(indexes.stream()
+                        .map(i -> BookMapper.mapToBook(bookDtos.get(i)))
+                        .collect(Collectors.toList()));
+                bookRepository.flush();
+                entityManager.clear();
+                return books;
+            });
+        } catch (DataAccessException | TransactionException e) {
+            if (indexes.size() == 1) {
+                BookImportResult result = results.get(indexes.get(0));
+                result.setStatus(BookImportResult.Status.FAILED);
+                result.setMessage(e.getMostSpecificCause().getMessage());
+                return;
+            }
+            for (Integer index : indexes) {
+                saveChunk(bookDtos, List.of(index), results);
+            }
+            return;
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            Book book = saved.get(i);
+            results.get(indexes.get(i)).setId(book.getId());
+            eventPublisher.publishEvent(BookChangedEvent.created(book));
+        }
+    }
+
+    // aturan sama dengan anotasi validasi di BookDto ditambah batas panjang kolom
+    private static String validate(BookDto bookDto) {
+        if (bookDto.getId() != null) {
+            return "Buku baru tidak boleh memiliki id.";
+        }
+        if (bookDto.getTitle() == null || bookDto.getTitle().isEmpty()) {
+            return "Judul buku wajib diisi.";
+        }
+        if (bookDto.getAuthor() == null) {
+            return "Penulis buku wajib diisi.";
+        }
+        if (bookDto.getTitle().length() > MAX_TEXT_LENGTH || bookDto.getAuthor().length() > MAX_TEXT_LENGTH
+                || (bookDto.getDescription() != null && bookDto.getDescription().length() > MAX_TEXT_LENGTH)) {
+            return "Judul, penulis dan deskripsi maksimal " + MAX_TEXT_LENGTH + " karakter.";
+        }
+        return null;
+    }
+
+    // aturan validate untuk kolom yang ikut diubah saja
+    private static String validateChanges(Map<String, Object> changes) {
+        if (changes.containsKey("title") && (changes.get("title") == null || ((String) changes.get("title")).isEmpty())) {
+            return "Judul buku wajib diisi.";
+        }
+        if (changes.containsKey("author") && changes.get("author") == null) {
+            return "Penulis buku wajib diisi.";
+        }
+        for (Object value : changes.values()) {
+            if (value instanceof String text && text.length() > MAX_TEXT_LENGTH) {
+                return "Judul, penulis dan deskripsi maksimal " + MAX_TEXT_LENGTH + " karakter.";
+            }
+        }
+        return null;
+    }
+
+    // backend yang dipilih belum siap (indeks masih dibangun): sementara memakai LIKE
+    private SearchBackend activeSearchBackend() {
+        SearchBackend backend = backendsByName.get(searchMode);
+        return backend.isAvailable() ? backend : backendsByName.get("like");
     }
 }
\ No newline at end of file
@@ -1,11 +1,22 @@
 package com.polstat.perpustakaan.service;
 
 import com.polstat.perpustakaan.dto.BorrowDto;
+import com.polstat.perpustakaan.dto.BorrowFilter;
+import com.polstat.perpustakaan.dto.CursorPage;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface BorrowService {
     void borrowBook(BorrowDto borrowDto);
     void returnBook(Long borrowId);
     List<BorrowDto> getAllBorrowings();
+    // keyset pagination berdasarkan id: peminjaman dengan id > cursor, paling banyak limit
+    List<BorrowDto> getBorrows(Long cursor, Integer limit);
+    // peminjaman yang cocok dengan filter, keyset pagination berdasarkan id seperti getBorrows
+    CursorPage<BorrowDto> findBorrows(BorrowFilter filter, Long cursor, Integer limit);
+    // untuk batch loader GraphQL (Book.borrows, Member.borrows): satu query untuk semua id, id tanpa peminjaman tidak ikut di map
+    Map<Long, List<BorrowDto>> getBorrowsByBookIds(Collection<Long> bookIds);
+    Map<Long, List<BorrowDto>> getBorrowsByMemberIds(Collection<Long> memberIds);
 }
@@ -1,22 +1,42 @@
 package com.polstat.perpustakaan.service;
 
 import com.polstat.perpustakaan.dto.BorrowDto;
+import com.polstat.perpustakaan.dto.BorrowFilter;
+import com.polstat.perpustakaan.dto.CursorPage;
 import com.polstat.perpustakaan.entity.Borrow;
 import com.polstat.perpustakaan.entity.Book;
 import com.polstat.perpustakaan.entity.Member;
+import com.polstat.perpustakaan.event.BorrowChangedEvent;
 import com.polstat.perpustakaan.mapper.BorrowMapper;
 import com.polstat.perpustakaan.repository.BorrowRepository;
 import com.polstat.perpustakaan.repository.BookRepository;
 import com.polstat.perpustakaan.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class BorrowServiceImpl implements BorrowService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 1000;
+    // batas waktu pengembalian sejak tanggal pinjam
+    private static final int LOAN_DAYS = 14;
+    private static final String STATUS_BORROWED = "Borrowed";
+    private static final String STATUS_RETURNED = "Returned";
 
     @Autowired
     private BorrowRepository borrowRepository;
@@ -27,6 +47,12 @@ public class BorrowServiceImpl implements BorrowService {
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public void borrowBook(BorrowDto borrowDto) {
         Member member = memberRepository.findById(borrowDto.getMemberId())
@@ -37,17 +63,18 @@ public class BorrowServiceImpl implements BorrowService {
 
         Borrow borrow = BorrowMapper.mapToBorrow(borrowDto, member, book);
         borrow.setBorrowDate(LocalDate.now());
-        borrow.setBorrowStatus("Borrowed");
+        borrow.setBorrowStatus(STATUS_BORROWED);
         borrowRepository.save(borrow);
+        eventPublisher.publishEvent(BorrowChangedEvent.borrowed(borrow));
     }
 
     @Override
     public void returnBook(Long borrowId) {
         Borrow borrow = borrowRepository.findById(borrowId).orElseThrow();
         borrow.setReturnDate(LocalDate.now());
-        borrow.setBorrowStatus("Returned");
+        borrow.setBorrowStatus(STATUS_RETURNED);
 
-        LocalDate dueDate = borrow.getBorrowDate().plusDays(14);
+        LocalDate dueDate = borrow.getBorrowDate().plusDays(LOAN_DAYS);
         if (borrow.getReturnDate().isAfter(dueDate)) {
             borrow.setOverdueDays((int) borrow.getReturnDate().toEpochDay() - (int) dueDate.toEpochDay());
         } else {
@@ -55,13 +82,83 @@ public class BorrowServiceImpl implements BorrowService {
         }
 
         borrowRepository.save(borrow);
+        eventPublisher.publishEvent(BorrowChangedEvent.returned(borrow));
     }
 
+    // satu SELECT langsung ke BorrowDto, tanpa memuat entity Member dan Book
     @Override
     public List<BorrowDto> getAllBorrowings() {
-        List<Borrow> borrowings = borrowRepository.findAll();
-        return borrowings.stream()
-                .map(BorrowMapper::mapToBorrowDto)
-                .collect(Collectors.toList());
+        return borrowRepository.findAllDtos();
+    }
+
+    @Override
+    public List<BorrowDto> getBorrows(Long cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return borrowRepository.findPageAfter(cursor == null ? 0 : cursor, PageRequest.ofSize(pageSize));
+    }
+
+    @Override
+    public CursorPage<BorrowDto> findBorrows(BorrowFilter filter, Long cursor, Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("limit harus lebih dari 0");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BorrowDto> query = cb.createQuery(BorrowDto.class);
+        Root<Borrow> borrow = query.from(Borrow.class);
+        // member.id dan book.id dibaca dari kolom foreign key, tanpa join ke members dan books
+        query.select(cb.construct(BorrowDto.class, borrow.get("id"), borrow.get("member").get("id"),
+                        borrow.get("book").get("id"), borrow.get("borrowDate"), borrow.get("returnDate"),
+                        borrow.get("borrowStatus"), borrow.get("overdueDays")))
+                .where(predicates(cb, borrow, filter, cursor == null ? 0L : cursor).toArray(new Predicate[0]))
+                .orderBy(cb.asc(borrow.get("id")));
+        // ambil satu baris lebih untuk mengetahui apakah masih ada halaman berikutnya
+        List<BorrowDto> borrows = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        boolean hasNext = borrows.size() > size;
+        List<BorrowDto> items = hasNext ? borrows.subList(0, size) : borrows;
+        return CursorPage.<BorrowDto>builder()
+                .items(items)
+                .nextCursor(items.isEmpty() ? cursor : items.get(items.size() - 1).getId())
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Borrow> borrow, BorrowFilter filter, long cursor) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(borrow.get("id"), cursor));
+        if (filter.getMemberId() != null) {
+            predicates.add(cb.equal(borrow.get("member").get("id"), filter.getMemberId()));
+        }
+        if (filter.getBookId() != null) {
+            predicates.add(cb.equal(borrow.get("book").get("id"), filter.getBookId()));
+        }
+        if (Boolean.TRUE.equals(filter.getOverdue())) {
+            if (filter.getStatus() != null && !STATUS_BORROWED.equals(filter.getStatus())) {
+                throw new IllegalArgumentException("overdue hanya berlaku untuk status " + STATUS_BORROWED);
+            }
+            predicates.add(cb.equal(borrow.get("borrowStatus"), STATUS_BORROWED));
+            predicates.add(cb.lessThan(borrow.get("borrowDate"), LocalDate.now().minusDays(LOAN_DAYS)));
+        } else if (filter.getStatus() != null) {
+            predicates.add(cb.equal(borrow.get("borrowStatus"), filter.getStatus()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(borrow.get("borrowDate"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(borrow.get("borrowDate"), filter.getTo()));
+        }
+        return predicates;
+    }
+
+    @Override
+    public Map<Long, List<BorrowDto>> getBorrowsByBookIds(Collection<Long> bookIds) {
+        return borrowRepository.findByBookIds(bookIds).stream()
+                .collect(Collectors.groupingBy(BorrowDto::getBookId));
+    }
+
+    @Override
+    public Map<Long, List<BorrowDto>> getBorrowsByMemberIds(Collection<Long> memberIds) {
+        return borrowRepository.findByMemberIds(memberIds).stream()
+                .collect(Collectors.groupingBy(BorrowDto::getMemberId));
     }
 }
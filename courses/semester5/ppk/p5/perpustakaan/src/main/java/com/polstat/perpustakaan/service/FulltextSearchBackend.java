@@ -0,0 +1,115 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.search.Tokenizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// MATCH ... AGAINST memakai indeks FULLTEXT books(title, author) milik MySQL
+@Component
+public class FulltextSearchBackend implements SearchBackend {
+    private static final Logger logger = LoggerFactory.getLogger(FulltextSearchBackend.class);
+    public static final String INDEX_NAME = "ft_books_title_author";
+    // InnoDB tidak mengindeks kata yang lebih pendek dari innodb_ft_min_token_size (default 3)
+    private static final int MIN_TOKEN_LENGTH = 3;
+    // daftar stopword bawaan InnoDB; kata ini tidak diindeks sehingga "+the*" tidak akan pernah cocok
+    private static final Set<String> STOPWORDS = Set.of("a", "about", "an", "are", "as", "at", "be", "by", "com",
+            "de", "en", "for", "from", "how", "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this",
+            "to", "was", "what", "when", "where", "who", "will", "with", "und", "www");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LikeSearchBackend likeSearchBackend;
+
+    @Value("${perpustakaan.search.mode:trigram}")
+    private String searchMode;
+
+    private volatile boolean indexReady;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (getName().equals(searchMode)) {
+            ensureIndex();
+        }
+    }
+
+    public synchronized void ensureIndex() {
+        if (indexReady) {
+            return;
+        }
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'books' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (count == null || count == 0) {
+                logger.info("Membuat indeks FULLTEXT {} pada books(title, author)", INDEX_NAME);
+                jdbcTemplate.execute("ALTER TABLE books ADD FULLTEXT INDEX " + INDEX_NAME + " (title, author)");
+            }
+            indexReady = true;
+        } catch (DataAccessException e) {
+            logger.warn("Indeks FULLTEXT tidak bisa dibuat, pencarian memakai LIKE", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "fulltext";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return indexReady;
+    }
+
+    @Override
+    public List<BookDto> search(String keyword) {
+        List<String> tokens = indexableTokens(keyword);
+        if (tokens.isEmpty()) {
+            return likeSearchBackend.search(keyword);
+        }
+        // boolean mode: setiap kata wajib ada (+) dan boleh berupa awalan kata (*)
+        String query = tokens.stream().map(token -> "+" + token + "*").collect(Collectors.joining(" "));
+        return toBookDtos(bookRepository.searchFulltext(query));
+    }
+
+    @Override
+    public List<BookDto> search(String keyword, int limit) {
+        List<String> tokens = indexableTokens(keyword);
+        if (tokens.isEmpty()) {
+            return likeSearchBackend.search(keyword, limit);
+        }
+        return toBookDtos(bookRepository.searchFulltextRanked(String.join(" ", tokens), limit));
+    }
+
+    private static List<String> indexableTokens(String keyword) {
+        return Tokenizer.tokenize(keyword).stream()
+                .filter(token -> token.length() >= MIN_TOKEN_LENGTH && !STOPWORDS.contains(token))
+                .collect(Collectors.toList());
+    }
+
+    private static List<BookDto> toBookDtos(List<Book> books) {
+        return books.stream()
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,42 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class LikeSearchBackend implements SearchBackend {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Override
+    public String getName() {
+        return "like";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public List<BookDto> search(String keyword) {
+        return bookRepository.searchBooks(keyword).stream()
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<BookDto> search(String keyword, int limit) {
+        return bookRepository.searchBooks(keyword, PageRequest.of(0, limit)).stream()
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+    }
+}
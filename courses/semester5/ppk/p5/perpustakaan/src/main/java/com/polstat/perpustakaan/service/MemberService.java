@@ -1,12 +1,21 @@
 package com.polstat.perpustakaan.service;
 
 import com.polstat.perpustakaan.dto.MemberDto;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface MemberService {
     MemberDto createMember(MemberDto memberDto);
     List<MemberDto> getMembers();
+    // hanya kolom yang disebut di fields (nama atribut Member) yang di-SELECT, field lain di MemberDto tetap null
+    List<MemberDto> getMembers(Collection<String> fields);
     MemberDto getMember(Long id);
+    // untuk DataLoader GraphQL: semua id dimuat dengan satu query WHERE id IN (...); id yang tidak ada tidak ikut di map
+    Map<Long, MemberDto> getMembersById(Collection<Long> ids);
     MemberDto updateMember(MemberDto memberDto);
+    // satu UPDATE untuk kolom di changes saja (nama atribut Member -> nilai baru); fields adalah field yang dibutuhkan
+    // pemanggil di hasil, kolom yang tidak ikut diubah baru dibaca (satu SELECT) bila ada di fields
+    MemberDto updateMember(Long id, Map<String, Object> changes, Collection<String> fields);
     void deleteMember(Long id);
 }
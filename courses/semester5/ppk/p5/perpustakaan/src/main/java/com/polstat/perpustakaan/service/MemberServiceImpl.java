@@ -3,18 +3,33 @@ package com.polstat.perpustakaan.service;
 import com.polstat.perpustakaan.dto.MemberDto;
 import com.polstat.perpustakaan.entity.Member;
 import com.polstat.perpustakaan.mapper.MemberMapper;
+import com.polstat.perpustakaan.repository.ColumnProjection;
+import com.polstat.perpustakaan.repository.ColumnUpdate;
 import com.polstat.perpustakaan.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class MemberServiceImpl implements MemberService {
 
+    // kolom yang NOT NULL di tabel members
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("memberID", "name", "address");
+
     @Autowired
     private MemberRepository memberRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public MemberDto createMember(MemberDto memberDto) {
         Member member = memberRepository.save(MemberMapper.mapToMember(memberDto));
@@ -27,12 +42,25 @@ public class MemberServiceImpl implements MemberService {
         return members.stream().map(MemberMapper::mapToMemberDto).collect(Collectors.toList());
     }
 
+    @Override
+    public List<MemberDto> getMembers(Collection<String> fields) {
+        return ColumnProjection.findAll(entityManager, Member.class, fields).stream()
+                .map(MemberMapper::mapToMemberDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public MemberDto getMember(Long id) {
         Member member = memberRepository.findById(id).orElseThrow(() -> new RuntimeException("Member not found"));
         return MemberMapper.mapToMemberDto(member);
     }
 
+    @Override
+    public Map<Long, MemberDto> getMembersById(Collection<Long> ids) {
+        List<Member> members = (List<Member>) memberRepository.findAllById(ids);
+        return members.stream().collect(Collectors.toMap(Member::getId, MemberMapper::mapToMemberDto));
+    }
+
     @Override
     public MemberDto updateMember(MemberDto memberDto) {
         Member member = memberRepository.save(MemberMapper.mapToMember(memberDto));
@@ -40,7 +68,34 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @Transactional
+    public MemberDto updateMember(Long id, Map<String, Object> changes, Collection<String> fields) {
+        for (String column : REQUIRED_COLUMNS) {
+            if (changes.containsKey(column) && changes.get(column) == null) {
+                throw new IllegalArgumentException(column + " wajib diisi");
+            }
+        }
+        if (!changes.isEmpty() && ColumnUpdate.update(entityManager, Member.class, id, changes) == 0) {
+            throw new RuntimeException("Member not found");
+        }
+        Set<String> unchanged = new HashSet<>(fields);
+        unchanged.removeAll(changes.keySet());
+        MemberDto memberDto;
+        if (changes.isEmpty() || !ColumnProjection.columns(entityManager, Member.class, unchanged).isEmpty()) {
+            memberDto = ColumnProjection.findById(entityManager, Member.class, id, unchanged)
+                    .map(MemberMapper::mapToMemberDto)
+                    .orElseThrow(() -> new RuntimeException("Member not found"));
+        } else {
+            memberDto = MemberDto.builder().id(id).build();
+        }
+        MemberMapper.applyColumns(memberDto, changes);
+        return memberDto;
+    }
+
+    // satu DELETE; id yang tidak ada diabaikan seperti deleteById
+    @Override
+    @Transactional
     public void deleteMember(Long id) {
-        memberRepository.deleteById(id);
+        memberRepository.deleteMemberById(id);
     }
 }
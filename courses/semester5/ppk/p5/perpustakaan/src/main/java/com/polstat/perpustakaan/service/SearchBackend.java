@@ -0,0 +1,18 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+
+import java.util.List;
+
+// implementasi pencarian buku, dipilih per deployment lewat perpustakaan.search.mode
+public interface SearchBackend {
+    String getName();
+
+    // false jika backend belum siap (misalnya indeks belum selesai dibangun)
+    boolean isAvailable();
+
+    List<BookDto> search(String keyword);
+
+    // hasil paling relevan lebih dulu, paling banyak limit buku
+    List<BookDto> search(String keyword, int limit);
+}
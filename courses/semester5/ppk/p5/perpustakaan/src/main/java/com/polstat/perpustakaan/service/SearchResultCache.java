@@ -0,0 +1,193 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.event.BookIndexedEvent;
+import com.polstat.perpustakaan.search.BkTree;
+import com.polstat.perpustakaan.search.Tokenizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// cache hasil searchBooks (LRU + TTL); entri hanya dibuang bila buku yang berubah bisa memengaruhi hasilnya.
+// Saat cache miss, pencarian serentak dengan kata kunci yang sama (setelah dinormalisasi) berbagi satu query.
+@Component
+public class SearchResultCache {
+
+    @Value("${perpustakaan.search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${perpustakaan.search.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${perpustakaan.search.cache.ttl:10m}")
+    private Duration ttl;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // naik setiap ada perubahan buku; hasil yang dihitung sebelum perubahan tidak boleh masuk cache
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final SingleFlight<String, List<BookDto>> flights = new SingleFlight<>();
+
+    public List<BookDto> get(String keyword, Integer limit, Supplier<List<BookDto>> loader) {
+        return lookup(keyword, limit, null, loader);
+    }
+
+    public List<BookDto> getFuzzy(String keyword, int maxEdits, Integer limit, Supplier<List<BookDto>> loader) {
+        return lookup(keyword, limit, maxEdits, loader);
+    }
+
+    private List<BookDto> lookup(String keyword, Integer limit, Integer maxEdits, Supplier<List<BookDto>> loader) {
+        if (keyword == null) {
+            return loader.get();
+        }
+        String prefix = (maxEdits == null ? "like" : "fuzzy:" + maxEdits) + ":" + limit + ":";
+        String key = prefix + keyword;
+        long loadedAt;
+        boolean caching;
+        // query dijalankan di luar lock agar pencarian lain, onBookIndexed() dan getStats() tidak ikut menunggu
+        synchronized (this) {
+            loadedAt = generation;
+            caching = enabled;
+            Entry entry = caching ? entries.get(key) : null;
+            if (entry != null && !entry.isExpired(ttl)) {
+                hits.incrementAndGet();
+                return entry.books;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        if (!caching) {
+            return flights.execute(flightKey(loadedAt, prefix, keyword), loader);
+        }
+        misses.incrementAndGet();
+        return flights.execute(flightKey(loadedAt, prefix, keyword), () -> {
+            List<BookDto> books = List.copyOf(loader.get());
+            store(key, new Entry(keyword, maxEdits, books), loadedAt);
+            return books;
+        });
+    }
+
+    // collation MySQL (ai_ci) tidak membedakan huruf besar/kecil dan aksen, jadi hasilnya sama.
+    // Generasi ikut dalam key agar pemanggil setelah perubahan buku tidak menumpang query yang lebih lama.
+    private static String flightKey(long generation, String prefix, String keyword) {
+        return generation + ":" + prefix + Tokenizer.normalize(keyword);
+    }
+
+    private synchronized void store(String key, Entry entry, long loadedAt) {
+        if (loadedAt != generation) {
+            return;
+        }
+        entries.put(key, entry);
+        if (entries.size() > maxEntries) {
+            Iterator<Entry> eldest = entries.values().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    // dijalankan setelah BookIndexer menerapkan perubahan: pencarian yang dimulai sebelum titik ini mungkin masih
+    // membaca indeks lama, jadi hasilnya ditolak oleh store() (generasi berbeda) atau sudah tersimpan dan dibuang di sini
+    @EventListener
+    public synchronized void onBookIndexed(BookIndexedEvent event) {
+        generation++;
+        Book previous = event.getPrevious();
+        Book current = event.getCurrent();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.ids.contains(event.getBookId()) || entry.mayMatch(previous) || entry.mayMatch(current)) {
+                iterator.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlSeconds", ttl.toSeconds());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        long total = hits.get() + misses.get();
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hits.get() / total);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("singleFlight", flights.getStats());
+        return stats;
+    }
+
+    private static class Entry {
+        private final List<String> tokens;
+        private final Integer maxEdits;
+        private final List<BookDto> books;
+        private final Set<Long> ids = new HashSet<>();
+        private final long createdAt = System.nanoTime();
+
+        Entry(String keyword, Integer maxEdits, List<BookDto> books) {
+            this.tokens = Tokenizer.tokenize(keyword);
+            this.maxEdits = maxEdits;
+            this.books = books;
+            for (BookDto book : books) {
+                ids.add(book.getId());
+            }
+        }
+
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - createdAt > ttl.toNanos();
+        }
+
+        // pemeriksaan longgar: setiap kata kunci LIKE/kata/prefix yang cocok pasti memuat token ini sebagai substring.
+        // Untuk hasil berperingkat, buku yang cocok sebagian juga mengubah skor BM25 sehingga ikut dianggap relevan.
+        boolean mayMatch(Book book) {
+            if (book == null) {
+                return false;
+            }
+            if (tokens.isEmpty()) {
+                return true;
+            }
+            String text = Tokenizer.normalize(book.getTitle() + " " + book.getAuthor() + " " + book.getDescription());
+            if (maxEdits == null) {
+                for (String token : tokens) {
+                    if (text.contains(token)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            for (String word : Tokenizer.tokenize(text)) {
+                for (String token : tokens) {
+                    if (BkTree.distance(word, token, maxEdits) <= maxEdits) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
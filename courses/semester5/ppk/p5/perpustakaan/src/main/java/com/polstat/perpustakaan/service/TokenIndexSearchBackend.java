@@ -0,0 +1,48 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.search.InvertedBookIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// pencocokan per kata utuh dari inverted index di memori
+@Component
+public class TokenIndexSearchBackend implements SearchBackend {
+
+    @Autowired
+    private BookIndexer bookIndexer;
+
+    @Autowired
+    private InvertedBookIndex invertedBookIndex;
+
+    @Override
+    public String getName() {
+        return "index";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return bookIndexer.isReady();
+    }
+
+    @Override
+    public List<BookDto> search(String keyword) {
+        return toBookDtos(invertedBookIndex.search(keyword));
+    }
+
+    @Override
+    public List<BookDto> search(String keyword, int limit) {
+        return toBookDtos(invertedBookIndex.searchRanked(keyword, limit));
+    }
+
+    private List<BookDto> toBookDtos(List<Long> ids) {
+        return bookIndexer.getBooks(ids).stream()
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,52 @@
+package com.polstat.perpustakaan.service;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.mapper.BookMapper;
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.search.InvertedBookIndex;
+import com.polstat.perpustakaan.search.TrigramBookIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// hasil sama dengan LIKE, dijawab dari indeks trigram di memori; dengan limit, hasil LIKE yang sama diurutkan BM25
+@Component
+public class TrigramSearchBackend implements SearchBackend {
+
+    @Autowired
+    private BookIndexer bookIndexer;
+
+    @Autowired
+    private TrigramBookIndex trigramBookIndex;
+
+    @Autowired
+    private InvertedBookIndex invertedBookIndex;
+
+    @Override
+    public String getName() {
+        return "trigram";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return bookIndexer.isReady();
+    }
+
+    @Override
+    public List<BookDto> search(String keyword) {
+        return toBookDtos(trigramBookIndex.search(keyword, bookIndexer::get));
+    }
+
+    @Override
+    public List<BookDto> search(String keyword, int limit) {
+        return toBookDtos(invertedBookIndex.rank(keyword, trigramBookIndex.search(keyword, bookIndexer::get), limit));
+    }
+
+    private List<BookDto> toBookDtos(List<Long> ids) {
+        return bookIndexer.getBooks(ids).stream()
+                .map(BookMapper::mapToBookDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+
+package generated;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.annotation.Generated;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="created" type="{http://www.w3.org/2001/XMLSchema}int"/&gt;
+ *         &lt;element name="failed" type="{http://www.w3.org/2001/XMLSchema}int"/&gt;
+ *         &lt;element name="results" type="{http://www.polstat.com/perpustakaan}addBookResult" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "created",
+    "failed",
+    "results"
+})
+@XmlRootElement(name = "addBooksResponse", namespace = "http://www.polstat.com/perpustakaan")
+@Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+public class AddBooksResponse {
+
+    @XmlElement(namespace = "http://www.polstat.com/perpustakaan")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    protected int created;
+    @XmlElement(namespace = "http://www.polstat.com/perpustakaan")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    protected int failed;
+    @XmlElement(namespace = "http://www.polstat.com/perpustakaan")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    protected List<AddBookResult> results;
+
+    /**
+     * Gets the value of the created property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Sets the value of the created property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public void setCreated(int value) {
+        this.created = value;
+    }
+
+    /**
+     * Gets the value of the failed property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public int getFailed() {
+        return failed;
+    }
+
+    /**
+     * Sets the value of the failed property.
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public void setFailed(int value) {
+        this.failed = value;
+    }
+
+    /**
+     * Gets the value of the results property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the Jakarta XML Binding object.
+     * This is why there is not a <CODE>set</CODE> method for the results property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getResults().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AddBookResult }
+     * 
+     * 
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public List<AddBookResult> getResults() {
+        if (results == null) {
+            results = new ArrayList<AddBookResult>();
+        }
+        return this.results;
+    }
+
+}
@@ -21,7 +21,8 @@ import jakarta.xml.bind.annotation.XmlType;
  *   &lt;complexContent&gt;
  *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
  *       &lt;sequence&gt;
- *         &lt;element name="books" type="{http://www.polstat.com/perpustakaan}book" maxOccurs="unbounded"/&gt;
+ *         &lt;element name="books" type="{http://www.polstat.com/perpustakaan}book" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="nextCursor" type="{http://www.w3.org/2001/XMLSchema}long" minOccurs="0"/&gt;
  *       &lt;/sequence&gt;
  *     &lt;/restriction&gt;
  *   &lt;/complexContent&gt;
@@ -32,15 +33,19 @@ import jakarta.xml.bind.annotation.XmlType;
  */
 @XmlAccessorType(XmlAccessType.FIELD)
 @XmlType(name = "", propOrder = {
-    "books"
+    "books",
+    "nextCursor"
 })
 @XmlRootElement(name = "getBooksResponse", namespace = "http://www.polstat.com/perpustakaan")
 @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
 public class GetBooksResponse {
 
-    @XmlElement(namespace = "http://www.polstat.com/perpustakaan", required = true)
+    @XmlElement(namespace = "http://www.polstat.com/perpustakaan")
     @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
     protected List<Book> books;
+    @XmlElement(namespace = "http://www.polstat.com/perpustakaan")
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    protected Long nextCursor;
 
     /**
      * Gets the value of the books property.
@@ -72,4 +77,30 @@ public class GetBooksResponse {
         return this.books;
     }
 
+    /**
+     * Gets the value of the nextCursor property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Long }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the value of the nextCursor property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Long }
+     *     
+     */
+    @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
+    public void setNextCursor(Long value) {
+        this.nextCursor = value;
+    }
+
 }
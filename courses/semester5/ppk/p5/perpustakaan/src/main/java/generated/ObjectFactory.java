@@ -1,10 +1,7 @@
 
 package generated;
 
-import javax.xml.namespace.QName;
 import jakarta.annotation.Generated;
-import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.annotation.XmlElementDecl;
 import jakarta.xml.bind.annotation.XmlRegistry;
 
 
@@ -26,7 +23,6 @@ import jakarta.xml.bind.annotation.XmlRegistry;
 @Generated(value = "com.sun.tools.xjc.Driver", comments = "JAXB RI v3.0.2", date = "2024-10-16T15:38:55+07:00")
 public class ObjectFactory {
 
-    private final static QName _GetBooksRequest_QNAME = new QName("http://www.polstat.com/perpustakaan", "getBooksRequest");
 
     /**
      * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: generated
@@ -35,6 +31,14 @@ public class ObjectFactory {
     public ObjectFactory() {
     }
 
+    /**
+     * Create an instance of {@link GetBooksRequest }
+     * 
+     */
+    public GetBooksRequest createGetBooksRequest() {
+        return new GetBooksRequest();
+    }
+
     /**
      * Create an instance of {@link GetBooksResponse }
      * 
@@ -67,6 +71,38 @@ public class ObjectFactory {
         return new AddBookResponse();
     }
 
+    /**
+     * Create an instance of {@link AddBooksRequest }
+     * 
+     */
+    public AddBooksRequest createAddBooksRequest() {
+        return new AddBooksRequest();
+    }
+
+    /**
+     * Create an instance of {@link NewBook }
+     * 
+     */
+    public NewBook createNewBook() {
+        return new NewBook();
+    }
+
+    /**
+     * Create an instance of {@link AddBooksResponse }
+     * 
+     */
+    public AddBooksResponse createAddBooksResponse() {
+        return new AddBooksResponse();
+    }
+
+    /**
+     * Create an instance of {@link AddBookResult }
+     * 
+     */
+    public AddBookResult createAddBookResult() {
+        return new AddBookResult();
+    }
+
     /**
      * Create an instance of {@link SearchBooksRequest }
      * 
@@ -83,17 +119,4 @@ public class ObjectFactory {
         return new SearchBooksResponse();
     }
 
-    /**
-     * Create an instance of {@link JAXBElement }{@code <}{@link Object }{@code >}
-     * 
-     * @param value
-     *     Java instance representing xml element's value.
-     * @return
-     *     the new instance of {@link JAXBElement }{@code <}{@link Object }{@code >}
-     */
-    @XmlElementDecl(namespace = "http://www.polstat.com/perpustakaan", name = "getBooksRequest")
-    public JAXBElement<Object> createGetBooksRequest(Object value) {
-        return new JAXBElement<Object>(_GetBooksRequest_QNAME, Object.class, null, value);
-    }
-
 }
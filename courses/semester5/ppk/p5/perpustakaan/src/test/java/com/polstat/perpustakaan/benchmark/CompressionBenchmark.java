@@ -0,0 +1,173 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polstat.perpustakaan.config.JaxbMarshallerPool;
+import com.polstat.perpustakaan.config.WebServiceConfig;
+import com.polstat.perpustakaan.dto.BookDto;
+import generated.Book;
+import generated.GetBooksResponse;
+import generated.ObjectFactory;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH: biaya CPU per request (waktu rata-rata single thread, tanpa I/O) untuk menulis katalog buku sebagai
+ * response SOAP (getBooksResponse) dan JSON (JSON-RPC getBooks), tanpa kompresi dan dengan gzip level bawaan
+ * seperti server.compression Tomcat. Ukuran byte di kabel untuk setiap kombinasi dicetak sebelum JMH berjalan.
+ * Jalankan dengan: mvn -Pbenchmark test -Dtest=CompressionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+	private static final String[] PAYLOADS = {"soap", "json"};
+	private static final int[] BOOKS = {100, 10000};
+
+	@Param({"soap", "json"})
+	public String payload;
+
+	@Param({"100", "10000"})
+	public int books;
+
+	@Param({"identity", "gzip"})
+	public String encoding;
+
+	private Writer writer;
+
+	@Setup
+	public void setUp() throws Exception {
+		writer = createWriter(payload, books);
+	}
+
+	@Benchmark
+	public long writeResponse() throws Exception {
+		return write(writer, encoding.equals("gzip"));
+	}
+
+	@Test
+	void run() throws Exception {
+		System.out.printf("%-6s %8s %12s %12s %7s%n", "format", "books", "identity", "gzip", "ratio");
+		for (String format : PAYLOADS) {
+			for (int count : BOOKS) {
+				Writer sample = createWriter(format, count);
+				long identity = write(sample, false);
+				long gzip = write(sample, true);
+				System.out.printf("%-6s %8d %12d %12d %6.1f%%%n", format, count, identity, gzip, 100.0 * gzip / identity);
+			}
+		}
+		Options options = new OptionsBuilder()
+				.include(CompressionBenchmark.class.getName() + "\\.")
+				.build();
+		new Runner(options).run();
+	}
+
+	// jumlah byte yang dikirim ke klien
+	private static long write(Writer writer, boolean gzip) throws Exception {
+		CountingOutputStream counter = new CountingOutputStream();
+		if (gzip) {
+			try (GZIPOutputStream out = new GZIPOutputStream(counter, 8192)) {
+				writer.writeTo(out);
+			}
+		} else {
+			writer.writeTo(counter);
+		}
+		return counter.count;
+	}
+
+	private static Writer createWriter(String format, int count) throws Exception {
+		switch (format) {
+			case "soap":
+				GetBooksResponse response = new GetBooksResponse();
+				for (int i = 1; i <= count; i++) {
+					Book book = new Book();
+					book.setId(i);
+					book.setTitle(title(i));
+					book.setAuthor(author(i));
+					book.setDescription(description(i));
+					response.getBooks().add(book);
+				}
+				JaxbMarshallerPool pool = new JaxbMarshallerPool(ObjectFactory.class, 1);
+				XMLOutputFactory outputFactory = WebServiceConfig.createOutputFactory("woodstox");
+				return out -> {
+					XMLStreamWriter xml = outputFactory.createXMLStreamWriter(out, "UTF-8");
+					pool.marshal(response, xml);
+					xml.flush();
+				};
+			case "json":
+				List<BookDto> bookDtos = new ArrayList<>(count);
+				for (int i = 1; i <= count; i++) {
+					bookDtos.add(new BookDto((long) i, title(i), author(i), description(i)));
+				}
+				ObjectMapper objectMapper = new ObjectMapper();
+				Map<String, Object> rpcResponse = new LinkedHashMap<>();
+				rpcResponse.put("jsonrpc", "2.0");
+				rpcResponse.put("result", bookDtos);
+				rpcResponse.put("id", "1");
+				return out -> objectMapper.writeValue(out, rpcResponse);
+			default:
+				throw new IllegalArgumentException(format);
+		}
+	}
+
+	private static String title(int i) {
+		return "Judul buku nomor " + i;
+	}
+
+	private static String author(int i) {
+		return "Penulis " + (i % 500);
+	}
+
+	private static String description(int i) {
+		return "Deskripsi singkat untuk buku nomor " + i;
+	}
+
+	private interface Writer {
+		void writeTo(OutputStream out) throws Exception;
+	}
+
+	private static class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream() {
+			super(OutputStream.nullOutputStream());
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] buffer, int offset, int length) throws IOException {
+			count += length;
+		}
+	}
+}
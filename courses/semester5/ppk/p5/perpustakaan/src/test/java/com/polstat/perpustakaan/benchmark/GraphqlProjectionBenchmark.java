@@ -0,0 +1,124 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.polstat.perpustakaan.service.BookService;
+import com.polstat.perpustakaan.service.MemberService;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Membandingkan books/members lama (findAll: entity lengkap lalu dipetakan ke DTO) dengan proyeksi kolom sesuai
+ * selection set GraphQL. Per pemanggilan diukur byte yang dikirim server MySQL (selisih Bytes_sent global, jadi
+ * database jangan dipakai proses lain), alokasi heap thread pemanggil, dan waktu.
+ * Katalog berisi description sepanjang kolomnya (255 karakter) di database terpisah (library_projection_bench).
+ * Jalankan dengan: mvn -Pbenchmark test -Dtest=GraphqlProjectionBenchmark -Dbenchmark.books=20000
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_projection_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"
+})
+class GraphqlProjectionBenchmark {
+
+	private static final int BOOKS = Integer.getInteger("benchmark.books", 20_000);
+	private static final int MEMBERS = Integer.getInteger("benchmark.members", 20_000);
+	private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+	private static final int WARMUP_ROUNDS = Integer.getInteger("benchmark.warmup", 5);
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Test
+	void compareProjections() {
+		seed();
+		System.out.printf("%nKatalog: %d buku, %d anggota, %d putaran%n", BOOKS, MEMBERS, ROUNDS);
+		System.out.printf("%-38s %12s %14s %10s%n", "query", "KB dari DB", "KB alokasi", "mean(ms)");
+		run("books (entity, semua kolom)", () -> bookService.getBooks());
+		run("books { id title author description }", () -> bookService.getBooks(Set.of("id", "title", "author", "description")));
+		run("books { id title author }", () -> bookService.getBooks(Set.of("id", "title", "author")));
+		run("books { id title }", () -> bookService.getBooks(Set.of("id", "title")));
+		run("members (entity, semua kolom)", () -> memberService.getMembers());
+		run("members { id name }", () -> memberService.getMembers(Set.of("id", "name")));
+	}
+
+	private void run(String name, Supplier<List<?>> query) {
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			query.get();
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long[] nanos = new long[ROUNDS];
+		long bytesSent = 0;
+		long allocated = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			long sentBefore = bytesSent();
+			long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+			long start = System.nanoTime();
+			query.get();
+			nanos[i] = System.nanoTime() - start;
+			allocated += threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+			bytesSent += bytesSent() - sentBefore;
+		}
+		System.out.printf("%-38s %12.0f %14.0f %10.2f%n", name, bytesSent / 1024.0 / ROUNDS, allocated / 1024.0 / ROUNDS,
+				Arrays.stream(nanos).average().orElse(0) / 1e6);
+	}
+
+	private long bytesSent() {
+		return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Bytes_sent'", (rs, row) -> rs.getLong(2));
+	}
+
+	private void seed() {
+		Random random = new Random(42);
+		Long books = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Long.class);
+		Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM books", Long.class);
+		List<Object[]> batch = new ArrayList<>();
+		long nextId = maxId + 1;
+		for (long i = books; i < BOOKS; i++) {
+			batch.add(new Object[] {nextId++, "Judul buku nomor " + i, "Penulis " + random.nextInt(1000), text(random, 255)});
+			if (batch.size() == 1000) {
+				insert("INSERT INTO books (id, title, author, description) VALUES (?, ?, ?, ?)", batch);
+			}
+		}
+		insert("INSERT INTO books (id, title, author, description) VALUES (?, ?, ?, ?)", batch);
+		// books_seq harus di atas id yang dibuat di sini, seperti BookSequenceInitializer saat aplikasi mulai
+		jdbcTemplate.update("UPDATE books_seq SET next_val = GREATEST(next_val, ?)", nextId + 50);
+
+		Long members = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members", Long.class);
+		for (long i = members; i < MEMBERS; i++) {
+			batch.add(new Object[] {"M" + i, "Anggota nomor " + i, text(random, 120), "08" + (100_000_000 + random.nextInt(900_000_000))});
+			if (batch.size() == 1000) {
+				insert("INSERT INTO members (memberid, name, address, phone_number) VALUES (?, ?, ?, ?)", batch);
+			}
+		}
+		insert("INSERT INTO members (memberid, name, address, phone_number) VALUES (?, ?, ?, ?)", batch);
+	}
+
+	private void insert(String sql, List<Object[]> batch) {
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, batch);
+			batch.clear();
+		}
+	}
+
+	private static String text(Random random, int length) {
+		StringBuilder text = new StringBuilder(length);
+		while (text.length() < length) {
+			for (int i = 0, n = 3 + random.nextInt(8); i < n; i++) {
+				text.append((char) ('a' + random.nextInt(26)));
+			}
+			text.append(' ');
+		}
+		return text.substring(0, length);
+	}
+}
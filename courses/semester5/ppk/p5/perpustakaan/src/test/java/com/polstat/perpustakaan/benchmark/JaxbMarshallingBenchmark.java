@@ -0,0 +1,97 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.polstat.perpustakaan.config.JaxbMarshallerPool;
+import com.polstat.perpustakaan.config.WebServiceConfig;
+import generated.Book;
+import generated.GetBooksResponse;
+import generated.ObjectFactory;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH: throughput dan alokasi per request (gc.alloc.rate.norm) saat me-marshal GetBooksResponse ke StAX,
+ * Marshaller baru per request (perilaku bawaan Spring-WS) dibandingkan dengan JaxbMarshallerPool.
+ * Jalankan dengan: mvn -Pbenchmark test -Dtest=JaxbMarshallingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JaxbMarshallingBenchmark {
+
+	@Param({"10", "1000", "100000"})
+	public int books;
+
+	@Param({"jdk", "woodstox"})
+	public String stax;
+
+	private JAXBContext context;
+	private JaxbMarshallerPool pool;
+	private XMLOutputFactory outputFactory;
+	private GetBooksResponse response;
+
+	@Setup
+	public void setUp() throws Exception {
+		context = JAXBContext.newInstance(ObjectFactory.class);
+		pool = new JaxbMarshallerPool(ObjectFactory.class, 4);
+		outputFactory = WebServiceConfig.createOutputFactory(stax);
+		response = new GetBooksResponse();
+		for (int i = 1; i <= books; i++) {
+			Book book = new Book();
+			book.setId(i);
+			book.setTitle("Judul buku nomor " + i);
+			book.setAuthor("Penulis " + (i % 500));
+			book.setDescription("Deskripsi singkat untuk buku nomor " + i);
+			response.getBooks().add(book);
+		}
+	}
+
+	@Benchmark
+	public XMLStreamWriter marshallerPerRequest() throws Exception {
+		Marshaller marshaller = context.createMarshaller();
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+		XMLStreamWriter writer = outputFactory.createXMLStreamWriter(OutputStream.nullOutputStream(), "UTF-8");
+		marshaller.marshal(response, writer);
+		writer.flush();
+		return writer;
+	}
+
+	@Benchmark
+	public XMLStreamWriter pooledMarshaller() throws Exception {
+		XMLStreamWriter writer = outputFactory.createXMLStreamWriter(OutputStream.nullOutputStream(), "UTF-8");
+		pool.marshal(response, writer);
+		writer.flush();
+		return writer;
+	}
+
+	@Test
+	void run() throws Exception {
+		Options options = new OptionsBuilder()
+				.include(JaxbMarshallingBenchmark.class.getName() + "\\.")
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,153 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.dto.CursorPage;
+import com.polstat.perpustakaan.rpc.JsonRpcDispatcher;
+import com.polstat.perpustakaan.rpc.JsonRpcMethod;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.lang.Nullable;
+
+/**
+ * JMH: throughput dan alokasi per request (gc.alloc.rate.norm) lapisan JSON-RPC tanpa database.
+ * legacyController meniru JsonRpcController lama (body ke JsonRpcRequest dengan params JsonNode, switch nama method,
+ * hasil dibungkus JsonRpcResponse lalu diserialisasi), dispatcher memakai JsonRpcDispatcher.
+ * Kedua cara memanggil service tiruan yang sama; System.out.println per request di controller lama tidak ikut diukur.
+ * Jalankan dengan: mvn -Pbenchmark test -Dtest=JsonRpcDispatcherBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonRpcDispatcherBenchmark {
+
+	@Param({"getBooks", "searchBooks"})
+	public String method;
+
+	private ObjectMapper objectMapper;
+	private BookRpcService service;
+	private JsonRpcDispatcher dispatcher;
+	private byte[] request;
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		service = new BookRpcService();
+		dispatcher = new JsonRpcDispatcher(objectMapper, List.of(service), 1, 1, 100);
+		String params = method.equals("getBooks") ? "{\"cursor\":100,\"limit\":20}" : "{\"keyword\":\"harry potter\",\"limit\":10}";
+		request = ("{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"params\":" + params + ",\"id\":\"42\"}")
+				.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@TearDown
+	public void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Benchmark
+	public Object legacyController() throws Exception {
+		LegacyRequest rpcRequest = objectMapper.readValue(new ByteArrayInputStream(request), LegacyRequest.class);
+		JsonNode params = rpcRequest.params;
+		Object result;
+		switch (rpcRequest.method) {
+			case "getBooks":
+				Long cursor = params.hasNonNull("cursor") ? params.get("cursor").asLong() : null;
+				Integer pageLimit = params.hasNonNull("limit") ? params.get("limit").asInt() : null;
+				result = service.getBooks(cursor, pageLimit);
+				break;
+			case "searchBooks":
+				String keyword = params.get("keyword").asText();
+				Integer limit = params.hasNonNull("limit") ? params.get("limit").asInt() : null;
+				result = service.searchBooks(keyword, limit);
+				break;
+			default:
+				throw new IllegalArgumentException(rpcRequest.method);
+		}
+		LegacyResponse response = new LegacyResponse(result, rpcRequest.id);
+		objectMapper.writeValue(OutputStream.nullOutputStream(), response);
+		return response;
+	}
+
+	@Benchmark
+	public boolean dispatcher() throws Exception {
+		return dispatcher.handle(new ByteArrayInputStream(request), OutputStream::nullOutputStream);
+	}
+
+	@Test
+	void run() throws Exception {
+		Options options = new OptionsBuilder()
+				.include(JsonRpcDispatcherBenchmark.class.getName() + "\\.")
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+	// pengganti BookService: hasil tetap agar yang terukur hanya lapisan JSON-RPC
+	public static class BookRpcService {
+		private final List<BookDto> page = books(20);
+		private final List<BookDto> searchResults = books(10);
+
+		@JsonRpcMethod("getBooks")
+		public CursorPage<BookDto> getBooks(@Nullable Long cursor, @Nullable Integer limit) {
+			return new CursorPage<>(page, page.get(page.size() - 1).getId(), true);
+		}
+
+		@JsonRpcMethod("searchBooks")
+		public List<BookDto> searchBooks(String keyword, @Nullable Integer limit) {
+			return searchResults;
+		}
+
+		private static List<BookDto> books(int count) {
+			List<BookDto> books = new ArrayList<>(count);
+			for (long i = 1; i <= count; i++) {
+				books.add(new BookDto(i, "Judul buku nomor " + i, "Penulis " + i, "Deskripsi singkat untuk buku nomor " + i));
+			}
+			return books;
+		}
+	}
+
+	// bentuk JsonRpcRequest/JsonRpcResponse sebelum JsonRpcDispatcher
+	public static class LegacyRequest {
+		public String jsonrpc;
+		public String method;
+		public JsonNode params;
+		public String id;
+	}
+
+	public static class LegacyResponse {
+		public String jsonrpc = "2.0";
+		public Object result;
+		public Object error;
+		public String id;
+
+		LegacyResponse(Object result, String id) {
+			this.result = result;
+			this.id = id;
+		}
+	}
+}
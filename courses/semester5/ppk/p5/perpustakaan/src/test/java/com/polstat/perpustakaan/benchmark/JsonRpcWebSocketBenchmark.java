@@ -0,0 +1,165 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Uji beban lokal JSON-RPC: POST /jsonrpc (HTTP/1.1 keep-alive, satu request per round trip) dibandingkan
+ * /jsonrpc/ws tanpa pipelining (window 1) dan dengan pipelining (window request yang belum dijawab per koneksi).
+ * Setiap klien memakai satu koneksi dan memanggil getBooks/searchBooks kecil secara bergantian.
+ * Jalankan dengan: mvn -Pbenchmark test -Dtest=JsonRpcWebSocketBenchmark -Dbenchmark.clients=8 -Dbenchmark.calls=5000
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"
+})
+class JsonRpcWebSocketBenchmark {
+
+	private static final int CLIENTS = Integer.getInteger("benchmark.clients", 8);
+	private static final int CALLS = Integer.getInteger("benchmark.calls", 5000);
+	private static final int WARMUP_CALLS = Integer.getInteger("benchmark.warmup", 1000);
+	private static final int WINDOW = Integer.getInteger("benchmark.window", 16);
+	private static final String[] KEYWORDS = {"harry", "pelangi", "sejarah", "java", "hujan", "negeri"};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	void compareTransports() throws Exception {
+		System.out.printf("%-16s %8s %10s %10s %10s %10s%n", "transport", "clients", "calls/s", "p50 (us)", "p99 (us)", "max (us)");
+		run("http", 1);
+		run("ws", 1);
+		run("ws-pipelined", WINDOW);
+	}
+
+	private void run(String transport, int window) throws Exception {
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		try {
+			runClients(clients, transport, window, WARMUP_CALLS);
+			long start = System.nanoTime();
+			long[] latencies = runClients(clients, transport, window, CALLS);
+			double seconds = (System.nanoTime() - start) / 1e9;
+			Arrays.sort(latencies);
+			System.out.printf("%-16s %8d %10.0f %10d %10d %10d%n", transport + (window > 1 ? "(" + window + ")" : ""), CLIENTS,
+					latencies.length / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99),
+					latencies[latencies.length - 1] / 1000);
+		} finally {
+			clients.shutdown();
+		}
+	}
+
+	private long[] runClients(ExecutorService clients, String transport, int window, int calls) throws Exception {
+		Future<?>[] running = new Future<?>[CLIENTS];
+		long[][] latencies = new long[CLIENTS][];
+		for (int c = 0; c < CLIENTS; c++) {
+			int client = c;
+			running[c] = clients.submit(() -> {
+				latencies[client] = transport.equals("http") ? httpClient(client, calls) : webSocketClient(client, calls, window);
+				return null;
+			});
+		}
+		for (Future<?> future : running) {
+			future.get();
+		}
+		return Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+	}
+
+	private long[] httpClient(int client, int calls) throws Exception {
+		HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		URI uri = URI.create("http://localhost:" + port + "/jsonrpc");
+		Random random = new Random(client);
+		long[] latencies = new long[calls];
+		for (int i = 0; i < calls; i++) {
+			HttpRequest request = HttpRequest.newBuilder(uri)
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(call(random, i)))
+					.build();
+			long sent = System.nanoTime();
+			HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+			latencies[i] = System.nanoTime() - sent;
+			check(response.body());
+		}
+		return latencies;
+	}
+
+	private long[] webSocketClient(int client, int calls, int window) throws Exception {
+		long[] sentAt = new long[calls];
+		long[] latencies = new long[calls];
+		Semaphore inFlight = new Semaphore(window);
+		CountDownLatch finished = new CountDownLatch(calls);
+		WebSocket.Listener listener = new WebSocket.Listener() {
+			private final StringBuilder text = new StringBuilder();
+
+			@Override
+			public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+				text.append(data);
+				if (last) {
+					try {
+						int id = objectMapper.readTree(text.toString()).get("id").asInt();
+						latencies[id] = System.nanoTime() - sentAt[id];
+					} catch (Exception e) {
+						throw new IllegalStateException("Response tidak valid: " + text, e);
+					}
+					text.setLength(0);
+					inFlight.release();
+					finished.countDown();
+				}
+				webSocket.request(1);
+				return null;
+			}
+		};
+		WebSocket webSocket = HttpClient.newHttpClient().newWebSocketBuilder()
+				.buildAsync(URI.create("ws://localhost:" + port + "/jsonrpc/ws"), listener)
+				.get(10, TimeUnit.SECONDS);
+		Random random = new Random(client);
+		CompletableFuture<WebSocket> previous = CompletableFuture.completedFuture(webSocket);
+		for (int i = 0; i < calls; i++) {
+			inFlight.acquire();
+			previous.join();
+			sentAt[i] = System.nanoTime();
+			previous = webSocket.sendText(call(random, i), true);
+		}
+		if (!finished.await(60, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("Response WebSocket tidak lengkap: " + finished.getCount() + " tersisa");
+		}
+		webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+		return latencies;
+	}
+
+	private static String call(Random random, int id) {
+		if (random.nextBoolean()) {
+			return "{\"jsonrpc\":\"2.0\",\"method\":\"getBooks\",\"params\":{\"cursor\":" + random.nextInt(40_000)
+					+ ",\"limit\":10},\"id\":" + id + "}";
+		}
+		return "{\"jsonrpc\":\"2.0\",\"method\":\"searchBooks\",\"params\":{\"keyword\":\""
+				+ KEYWORDS[random.nextInt(KEYWORDS.length)] + "\",\"limit\":10},\"id\":" + id + "}";
+	}
+
+	private void check(byte[] response) throws Exception {
+		if (objectMapper.readTree(response).has("error")) {
+			throw new IllegalStateException("Response error: " + new String(response));
+		}
+	}
+
+	private static long percentile(long[] sorted, double p) {
+		return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1000;
+	}
+}
@@ -0,0 +1,111 @@
+package com.polstat.perpustakaan.benchmark;
+
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.service.FulltextSearchBackend;
+import com.polstat.perpustakaan.service.SearchBackend;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Membandingkan latensi setiap SearchBackend pada katalog hasil seed di database terpisah (library_bench).
+ * Jalankan dengan: mvn -Pbenchmark test -Dbenchmark.books=100000
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true",
+		"perpustakaan.search.mode=like"
+})
+class SearchBackendBenchmark {
+
+	private static final int CATALOG_SIZE = Integer.getInteger("benchmark.books", 100_000);
+	private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 20);
+	private static final String[] KEYWORDS = {"harry", "tolk", "the lord", "pelangi", "sejarah indonesia", "xyzzy"};
+	private static final String[] TITLE_WORDS = {"the", "lord", "rings", "harry", "potter", "laskar", "pelangi", "bumi",
+			"manusia", "sejarah", "indonesia", "perang", "damai", "cinta", "rahasia", "kota", "malam", "hujan", "senja",
+			"negeri", "lima", "menara", "ayat", "ayat", "data", "statistika", "analisis", "pemrograman", "java", "spring"};
+	private static final String[] AUTHOR_NAMES = {"Andrea", "Hirata", "Pramoedya", "Tolkien", "Rowling", "Tere", "Liye",
+			"Dewi", "Lestari", "Ahmad", "Fuadi", "Habiburrahman", "Budi", "Santoso", "Siti", "Nurbaya", "Eka", "Kurniawan"};
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private List<SearchBackend> searchBackends;
+
+	@Autowired
+	private FulltextSearchBackend fulltextSearchBackend;
+
+	@Autowired
+	private BookIndexer bookIndexer;
+
+	@Test
+	void compareSearchBackends() {
+		seedCatalog();
+		fulltextSearchBackend.ensureIndex();
+		bookIndexer.rebuild();
+
+		System.out.printf("%nKatalog: %d buku, %d putaran per kata kunci%n", bookIndexer.size(), ROUNDS);
+		System.out.printf("%-10s %10s %10s %10s  %s%n", "backend", "mean(ms)", "p50(ms)", "p99(ms)", "jumlah hasil per kata kunci");
+		for (SearchBackend backend : searchBackends) {
+			List<Integer> hits = new ArrayList<>();
+			for (String keyword : KEYWORDS) {
+				hits.add(backend.search(keyword).size());
+			}
+			long[] nanos = new long[ROUNDS * KEYWORDS.length];
+			int n = 0;
+			for (int round = 0; round < ROUNDS; round++) {
+				for (String keyword : KEYWORDS) {
+					long start = System.nanoTime();
+					backend.search(keyword);
+					nanos[n++] = System.nanoTime() - start;
+				}
+			}
+			Arrays.sort(nanos);
+			System.out.printf("%-10s %10.3f %10.3f %10.3f  %s%n", backend.getName(),
+					Arrays.stream(nanos).average().orElse(0) / 1e6,
+					nanos[nanos.length / 2] / 1e6,
+					nanos[(int) (nanos.length * 0.99)] / 1e6,
+					hits);
+		}
+	}
+
+	private void seedCatalog() {
+		Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Long.class);
+		Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM books", Long.class);
+		Random random = new Random(42);
+		List<Object[]> batch = new ArrayList<>();
+		long nextId = maxId + 1;
+		for (long i = existing; i < CATALOG_SIZE; i++) {
+			batch.add(new Object[] {nextId++, words(random, TITLE_WORDS, 2 + random.nextInt(4)),
+					words(random, AUTHOR_NAMES, 2), "Deskripsi buku nomor " + i});
+			if (batch.size() == 1000) {
+				insert(batch);
+			}
+		}
+		insert(batch);
+	}
+
+	private void insert(List<Object[]> batch) {
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, description) VALUES (?, ?, ?, ?)", batch);
+			batch.clear();
+		}
+	}
+
+	private static String words(Random random, String[] dictionary, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			String word = dictionary[random.nextInt(dictionary.length)];
+			text.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,112 @@
+package com.polstat.perpustakaan.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.entity.Borrow;
+import com.polstat.perpustakaan.entity.Member;
+import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.repository.BorrowRepository;
+import com.polstat.perpustakaan.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+/**
+ * Jumlah statement SQL untuk Borrow di GraphQL harus tetap, tidak bertambah dengan jumlah peminjaman:
+ * member dan book dari satu halaman dimuat lewat DataLoader, Member.borrows/Book.borrows lewat @BatchMapping.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_test?createDatabaseIfNotExist=true",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureGraphQlTester
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BorrowGraphqlControllerTests {
+
+	private static final int MEMBERS = 50;
+	private static final int BOOKS = 100;
+	private static final int BORROWS = 500;
+
+	@Autowired
+	private GraphQlTester graphQlTester;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BorrowRepository borrowRepository;
+
+	private Statistics statistics;
+
+	@BeforeAll
+	void seed() {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			members.add(Member.builder().memberID("M" + i).name("Anggota " + i).address("Alamat " + i).build());
+		}
+		memberRepository.saveAll(members);
+		List<Book> books = new ArrayList<>();
+		for (int i = 0; i < BOOKS; i++) {
+			books.add(Book.builder().title("Buku " + i).author("Penulis " + i).build());
+		}
+		bookRepository.saveAll(books);
+		List<Borrow> borrows = new ArrayList<>();
+		for (int i = 0; i < BORROWS; i++) {
+			borrows.add(Borrow.builder()
+					.member(members.get(i % MEMBERS))
+					.book(books.get(i % BOOKS))
+					.borrowDate(LocalDate.of(2024, 1, 1).plusDays(i % 30))
+					.borrowStatus("BORROWED")
+					.build());
+		}
+		borrowRepository.saveAll(borrows);
+	}
+
+	@BeforeEach
+	void resetStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void borrowPageLoadsMembersAndBooksInBatches() {
+		graphQlTester.document("{ borrows(first: 500) { id member { id name } book { id title } } }")
+				.execute()
+				.path("borrows").entityList(Object.class).hasSize(BORROWS)
+				.path("borrows[499].member.name").hasValue()
+				.path("borrows[499].book.title").hasValue();
+
+		// halaman peminjaman + satu IN untuk members + satu IN untuk books
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void nestedBorrowsDoNotDependOnNumberOfMembers() {
+		graphQlTester.document("{ members { id borrows { id book { title } } } }")
+				.execute()
+				.path("members").entityList(Object.class).hasSize(MEMBERS)
+				.path("members[0].borrows").entityList(Object.class).hasSize(BORROWS / MEMBERS);
+
+		// members + peminjaman semua anggota + satu IN untuk books
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+}
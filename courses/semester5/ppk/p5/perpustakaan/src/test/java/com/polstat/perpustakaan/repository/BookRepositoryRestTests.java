@@ -0,0 +1,88 @@
+package com.polstat.perpustakaan.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.search.BookIndexer;
+import com.polstat.perpustakaan.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * /books dari Spring Data REST hanya untuk dibaca; penulisan yang melewati BookServiceImpl
+ * tidak akan terlihat oleh indeks pencarian.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_rest_test?createDatabaseIfNotExist=true",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+class BookRepositoryRestTests {
+
+	private static final String BOOK_JSON = "{\"title\":\"Lewat REST\",\"author\":\"Tanpa Event\"}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookIndexer bookIndexer;
+
+	@Test
+	void booksAreReadable() throws Exception {
+		Long id = createBook();
+
+		mockMvc.perform(get("/books/{id}", id)).andExpect(status().isOk());
+		mockMvc.perform(get("/books/search/searchBooks").param("keyword", "gajah")).andExpect(status().isOk());
+	}
+
+	@Test
+	void writesAreNotExported() throws Exception {
+		Long id = createBook();
+		long count = bookRepository.count();
+
+		mockMvc.perform(post("/books").contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+				.andExpect(status().isMethodNotAllowed());
+		mockMvc.perform(put("/books/{id}", id).contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+				.andExpect(status().isMethodNotAllowed());
+		mockMvc.perform(patch("/books/{id}", id).contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+				.andExpect(status().isMethodNotAllowed());
+		mockMvc.perform(delete("/books/{id}", id)).andExpect(status().isMethodNotAllowed());
+
+		assertThat(bookRepository.count()).isEqualTo(count);
+		assertThat(bookRepository.findById(id)).get().extracting("title").isEqualTo("Gajah Mada");
+		assertThat(bookIndexer.get(id).getTitle()).isEqualTo("Gajah Mada");
+	}
+
+	@Test
+	void internalQueriesAreNotExported() throws Exception {
+		Long id = createBook();
+
+		for (String method : new String[] { "deleteBookById", "searchFulltext", "searchFulltextRanked", "findByPrefix",
+				"findByIdGreaterThanOrderByIdAsc", "streamAllOrderById" }) {
+			mockMvc.perform(get("/books/search/" + method).param("id", id.toString())).andExpect(status().isNotFound());
+		}
+		mockMvc.perform(post("/books/search/deleteBookById").param("id", id.toString())).andExpect(status().is4xxClientError());
+
+		assertThat(bookRepository.existsById(id)).isTrue();
+	}
+
+	private Long createBook() {
+		return bookService.createBook(BookDto.builder().title("Gajah Mada").author("Penulis Sejarah").build()).getId();
+	}
+}
@@ -0,0 +1,248 @@
+package com.polstat.perpustakaan.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+// service tiruan harus public: JsonRpcHandler memanggilnya lewat MethodHandles.publicLookup()
+public class JsonRpcDispatcherTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private TestService service;
+	private JsonRpcDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		service = new TestService();
+		dispatcher = new JsonRpcDispatcher(objectMapper, List.of(service), 4, 16, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void singleRequestWithNamedAndPositionalParams() throws IOException {
+		JsonNode named = call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":{\"b\":2,\"a\":40},\"id\":1}");
+		JsonNode positional = call("{\"jsonrpc\":\"2.0\",\"id\":\"x\",\"params\":[40,2],\"method\":\"add\"}");
+
+		assertThat(named.get("result").asInt()).isEqualTo(42);
+		assertThat(named.get("id").asInt()).isEqualTo(1);
+		assertThat(positional.get("result").asInt()).isEqualTo(42);
+		assertThat(positional.get("id").asText()).isEqualTo("x");
+	}
+
+	@Test
+	void overloadWithFewestMatchingParamsIsSelected() throws IOException {
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"method\":\"greet\",\"params\":{\"name\":\"Ani\"},\"id\":1}")
+				.get("result").asText()).isEqualTo("Halo Ani");
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"method\":\"greet\",\"params\":{\"name\":\"Ani\",\"greeting\":\"Hai\"},\"id\":1}")
+				.get("result").asText()).isEqualTo("Hai Ani");
+	}
+
+	@Test
+	void notificationGetsNoResponseButIsExecuted() throws IOException {
+		assertThat(handle("{\"jsonrpc\":\"2.0\",\"method\":\"count\"}")).isNull();
+		assertThat(service.counter).hasValue(1);
+	}
+
+	@Test
+	void notificationErrorsAreNotReported() throws IOException {
+		assertThat(handle("{\"jsonrpc\":\"2.0\",\"method\":\"missing\"}")).isNull();
+		assertThat(handle("{\"jsonrpc\":\"2.0\",\"method\":\"fail\"}")).isNull();
+	}
+
+	@Test
+	void nullIdIsNotANotification() throws IOException {
+		JsonNode response = call("{\"jsonrpc\":\"2.0\",\"method\":\"count\",\"id\":null}");
+
+		assertThat(response.has("id")).isTrue();
+		assertThat(response.get("id").isNull()).isTrue();
+		assertThat(response.get("result").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidJsonIsParseError() throws IOException {
+		JsonNode response = call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":[1,");
+
+		assertThat(response.get("error").get("code").asInt()).isEqualTo(JsonRpcError.PARSE_ERROR);
+		assertThat(response.get("id").isNull()).isTrue();
+	}
+
+	@Test
+	void truncatedRequestAfterBadParamsIsParseError() throws IOException {
+		JsonNode response = call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":{\"a\":\"bukan angka\",\"b\":{\"c\":[1");
+
+		assertThat(response.get("error").get("code").asInt()).isEqualTo(JsonRpcError.PARSE_ERROR);
+	}
+
+	@Test
+	void invalidRequestsAreReported() throws IOException {
+		assertThat(call("42").get("error").get("code").asInt()).isEqualTo(JsonRpcError.INVALID_REQUEST);
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"params\":[],\"id\":1}").get("error").get("code").asInt())
+				.isEqualTo(JsonRpcError.INVALID_REQUEST);
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":5,\"id\":1}").get("error").get("code").asInt())
+				.isEqualTo(JsonRpcError.INVALID_REQUEST);
+	}
+
+	@Test
+	void unknownMethodAndBadParams() throws IOException {
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":1}").get("error").get("code").asInt())
+				.isEqualTo(JsonRpcError.METHOD_NOT_FOUND);
+		assertThat(call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":{\"a\":1},\"id\":1}").get("error").get("code").asInt())
+				.isEqualTo(JsonRpcError.INVALID_PARAMS);
+		// id setelah params yang salah tetap dibaca
+		JsonNode response = call("{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":{\"a\":\"x\",\"b\":1},\"id\":7}");
+		assertThat(response.get("error").get("code").asInt()).isEqualTo(JsonRpcError.INVALID_PARAMS);
+		assertThat(response.get("id").asInt()).isEqualTo(7);
+	}
+
+	@Test
+	void unexpectedExceptionMessageIsNotSentToClient() throws IOException {
+		JsonNode error = call("{\"jsonrpc\":\"2.0\",\"method\":\"fail\",\"id\":1}").get("error");
+
+		assertThat(error.get("code").asInt()).isEqualTo(JsonRpcError.INTERNAL_ERROR);
+		assertThat(error.get("message").asText()).isEqualTo("Internal error");
+	}
+
+	@Test
+	void validationMessageIsSentToClient() throws IOException {
+		JsonNode error = call("{\"jsonrpc\":\"2.0\",\"method\":\"validate\",\"params\":[-1],\"id\":1}").get("error");
+
+		assertThat(error.get("code").asInt()).isEqualTo(JsonRpcError.INTERNAL_ERROR);
+		assertThat(error.get("message").asText()).isEqualTo("n harus positif");
+	}
+
+	@Test
+	void batchAnswersEveryNonNotificationInOrder() throws IOException {
+		JsonNode responses = call("["
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"add\",\"params\":[1,2],\"id\":1},"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"count\"},"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"missing\",\"id\":2},"
+				+ "1,"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"greet\",\"params\":{\"name\":\"Budi\"},\"id\":3}"
+				+ "]");
+
+		assertThat(responses.isArray()).isTrue();
+		assertThat(responses).hasSize(4);
+		assertThat(responses.get(0).get("result").asInt()).isEqualTo(3);
+		assertThat(responses.get(1).get("error").get("code").asInt()).isEqualTo(JsonRpcError.METHOD_NOT_FOUND);
+		assertThat(responses.get(1).get("id").asInt()).isEqualTo(2);
+		assertThat(responses.get(2).get("error").get("code").asInt()).isEqualTo(JsonRpcError.INVALID_REQUEST);
+		assertThat(responses.get(2).get("id").isNull()).isTrue();
+		assertThat(responses.get(3).get("result").asText()).isEqualTo("Halo Budi");
+		assertThat(service.counter).hasValue(1);
+	}
+
+	@Test
+	void batchOfNotificationsGetsNoResponse() throws IOException {
+		assertThat(handle("[{\"jsonrpc\":\"2.0\",\"method\":\"count\"},{\"jsonrpc\":\"2.0\",\"method\":\"count\"}]")).isNull();
+		assertThat(service.counter).hasValue(2);
+	}
+
+	@Test
+	void emptyOrOversizedBatchIsOneInvalidRequest() throws IOException {
+		JsonNode empty = call("[]");
+		JsonNode oversized = call("[" + "{\"jsonrpc\":\"2.0\",\"method\":\"count\",\"id\":1},".repeat(10)
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"count\",\"id\":1}]");
+
+		assertThat(empty.isObject()).isTrue();
+		assertThat(empty.get("error").get("code").asInt()).isEqualTo(JsonRpcError.INVALID_REQUEST);
+		assertThat(oversized.isObject()).isTrue();
+		assertThat(oversized.get("error").get("code").asInt()).isEqualTo(JsonRpcError.INVALID_REQUEST);
+		assertThat(service.counter).hasValue(0);
+	}
+
+	@Test
+	void invalidJsonBatchIsOneParseError() throws IOException {
+		JsonNode response = call("[{\"jsonrpc\":\"2.0\",\"method\":\"count\",\"id\":1},{\"jsonrpc\":\"2.0\",\"method\"");
+
+		assertThat(response.isObject()).isTrue();
+		assertThat(response.get("error").get("code").asInt()).isEqualTo(JsonRpcError.PARSE_ERROR);
+	}
+
+	@Test
+	void batchCallsRunInParallel() throws IOException {
+		// setiap pemanggilan menunggu semua pemanggilan lain dimulai; bila dijalankan berurutan latch tidak pernah terbuka
+		JsonNode responses = call("["
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"rendezvous\",\"id\":1},"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"rendezvous\",\"id\":2},"
+				+ "{\"jsonrpc\":\"2.0\",\"method\":\"rendezvous\",\"id\":3}"
+				+ "]");
+
+		assertThat(responses).hasSize(3);
+		for (JsonNode response : responses) {
+			assertThat(response.get("result").asBoolean()).isTrue();
+		}
+	}
+
+	// null bila dispatcher tidak menulis response
+	String handle(String request) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		boolean written = dispatcher.handle(new ByteArrayInputStream(request.getBytes(StandardCharsets.UTF_8)), () -> out);
+		return written ? out.toString(StandardCharsets.UTF_8) : null;
+	}
+
+	JsonNode call(String request) throws IOException {
+		String response = handle(request);
+		assertThat(response).isNotNull();
+		return objectMapper.readTree(response);
+	}
+
+	public static class TestService {
+		final AtomicInteger counter = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(3);
+
+		@JsonRpcMethod("add")
+		public int add(int a, int b) {
+			return a + b;
+		}
+
+		@JsonRpcMethod("greet")
+		public String greet(String name) {
+			return "Halo " + name;
+		}
+
+		@JsonRpcMethod("greet")
+		public String greet(String name, @Nullable String greeting) {
+			return (greeting == null ? "Halo" : greeting) + " " + name;
+		}
+
+		@JsonRpcMethod("count")
+		public int count() {
+			return counter.incrementAndGet();
+		}
+
+		@JsonRpcMethod("rendezvous")
+		public boolean rendezvous() throws InterruptedException {
+			started.countDown();
+			return started.await(5, TimeUnit.SECONDS);
+		}
+
+		@JsonRpcMethod("fail")
+		public void fail() {
+			throw new IllegalStateException("Duplicate entry 'rahasia' for key 'books.PRIMARY'");
+		}
+
+		@JsonRpcMethod("validate")
+		public void validate(int n) {
+			if (n <= 0) {
+				throw new IllegalArgumentException("n harus positif");
+			}
+		}
+	}
+}
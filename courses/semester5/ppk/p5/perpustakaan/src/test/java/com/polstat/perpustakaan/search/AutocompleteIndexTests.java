@@ -0,0 +1,117 @@
+package com.polstat.perpustakaan.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AutocompleteIndexTests {
+
+	private AutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new AutocompleteIndex();
+		index.update(null, book(1L, "The Hobbit", "J.R.R. Tolkien"));
+		index.update(null, book(2L, "The Lord of the Rings", "J.R.R. Tolkien"));
+		index.update(null, book(3L, "The Silmarillion", "J.R.R. Tolkien"));
+		index.update(null, book(4L, "Harry Potter and the Chamber of Secrets", "J.K. Rowling"));
+		index.update(null, book(5L, "The Casual Vacancy", "J.K. Rowling"));
+		index.update(null, book(6L, "Emma", "Jane Austen"));
+	}
+
+	@Test
+	void mostUsedKeyComesFirst() {
+		assertThat(index.complete("j", 10)).containsExactly("J.R.R. Tolkien", "J.K. Rowling", "Jane Austen");
+	}
+
+	@Test
+	void tiesAreLexicographic() {
+		assertThat(index.complete("the", 10))
+				.containsExactly("The Casual Vacancy", "The Hobbit", "The Lord of the Rings", "The Silmarillion");
+	}
+
+	@Test
+	void limitKeepsTopCompletions() {
+		assertThat(index.complete("j", 2)).containsExactly("J.R.R. Tolkien", "J.K. Rowling");
+		assertThat(index.complete("j", 1)).containsExactly("J.R.R. Tolkien");
+		assertThat(index.complete("j", 0)).isEmpty();
+	}
+
+	@Test
+	void prefixIsNormalized() {
+		assertThat(index.complete("  THE   h", 10)).containsExactly("The Hobbit");
+		assertThat(index.complete("the x", 10)).isEmpty();
+	}
+
+	@Test
+	void removingBooksLowersFrequency() {
+		index.update(book(1L, "The Hobbit", "J.R.R. Tolkien"), null);
+		index.update(book(2L, "The Lord of the Rings", "J.R.R. Tolkien"), null);
+
+		assertThat(index.complete("j", 10)).containsExactly("J.K. Rowling", "J.R.R. Tolkien", "Jane Austen");
+
+		index.update(book(6L, "Emma", "Jane Austen"), book(6L, "Emma", "J.K. Rowling"));
+
+		assertThat(index.complete("j", 10)).containsExactly("J.K. Rowling", "J.R.R. Tolkien");
+		assertThat(index.keyCount()).isEqualTo(6);
+	}
+
+	@Test
+	void completeMatchesBruteForce() {
+		// kata acak dengan prefiks bersama agar trie sering dipecah dan digabung lagi
+		Random random = new Random(42);
+		String[] words = { "a", "ab", "abc", "abd", "b", "ba", "bab", "c" };
+		index.clear();
+		Map<Long, Book> books = new HashMap<>();
+		for (int i = 0; i < 2000; i++) {
+			long id = random.nextInt(300);
+			Book previous = books.get(id);
+			Book current = random.nextInt(5) == 0 ? null
+					: book(id, words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)],
+							words[random.nextInt(words.length)]);
+			index.update(previous, current);
+			if (current == null) {
+				books.remove(id);
+			} else {
+				books.put(id, current);
+			}
+			if (i % 100 == 0) {
+				for (String prefix : new String[] { "a", "ab", "b", "a b", "c" }) {
+					for (int limit : new int[] { 1, 3, 100 }) {
+						assertThat(index.complete(prefix, limit)).as("%s/%d", prefix, limit)
+								.isEqualTo(expected(books.values(), prefix, limit));
+					}
+				}
+			}
+		}
+	}
+
+	private static List<String> expected(Iterable<Book> books, String prefix, int limit) {
+		Map<String, Integer> counts = new HashMap<>();
+		for (Book book : books) {
+			for (String text : new String[] { book.getTitle(), book.getAuthor() }) {
+				if (text.startsWith(prefix)) {
+					counts.merge(text, 1, Integer::sum);
+				}
+			}
+		}
+		return counts.entrySet().stream()
+				.sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+						.thenComparing(Map.Entry.comparingByKey()))
+				.limit(limit)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+	}
+
+	static Book book(Long id, String title, String author) {
+		return Book.builder().id(id).title(title).author(author).build();
+	}
+}
@@ -0,0 +1,112 @@
+package com.polstat.perpustakaan.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BkTreeTests {
+
+	private BkTree tree;
+
+	@BeforeEach
+	void setUp() {
+		tree = new BkTree();
+		for (String term : new String[] { "hobbit", "habit", "rabbit", "tolkien", "token", "pelangi", "hobbit" }) {
+			tree.add(term);
+		}
+	}
+
+	@Test
+	void distanceIsLevenshtein() {
+		assertThat(BkTree.distance("kitten", "sitting", Integer.MAX_VALUE)).isEqualTo(3);
+		assertThat(BkTree.distance("tolkien", "tolkein", Integer.MAX_VALUE)).isEqualTo(2);
+		assertThat(BkTree.distance("", "abc", Integer.MAX_VALUE)).isEqualTo(3);
+		assertThat(BkTree.distance("sama", "sama", 0)).isZero();
+	}
+
+	@Test
+	void distanceStopsAtLimit() {
+		// hasil di atas limit cukup dilaporkan sebagai limit + 1
+		assertThat(BkTree.distance("kitten", "sitting", 1)).isEqualTo(2);
+		assertThat(BkTree.distance("a", "abcdef", 2)).isEqualTo(3);
+	}
+
+	@Test
+	void duplicateTermIsStoredOnce() {
+		assertThat(tree.size()).isEqualTo(6);
+	}
+
+	@Test
+	void searchReturnsTermsWithinMaxDistance() {
+		assertThat(tree.search("hobit", 0)).isEmpty();
+		assertThat(tree.search("hobit", 1)).isEqualTo(Map.of("hobbit", 1, "habit", 1));
+		assertThat(tree.search("hobit", 3)).isEqualTo(Map.of("hobbit", 1, "habit", 1, "rabbit", 3));
+		assertThat(tree.search("tolkein", 2)).isEqualTo(Map.of("tolkien", 2, "token", 2));
+		assertThat(tree.search("tolkein", 1)).isEmpty();
+		assertThat(tree.search("pelangi", 0)).isEqualTo(Map.of("pelangi", 0));
+	}
+
+	@Test
+	void searchMatchesBruteForce() {
+		String[] terms = { "hobbit", "habit", "rabbit", "tolkien", "token", "pelangi" };
+		for (String query : new String[] { "hobbits", "tokien", "pelangu", "x", "rabit" }) {
+			for (int max = 0; max <= 3; max++) {
+				Map<String, Integer> expected = new HashMap<>();
+				for (String term : terms) {
+					int distance = BkTree.distance(term, query, Integer.MAX_VALUE);
+					if (distance <= max) {
+						expected.put(term, distance);
+					}
+				}
+				assertThat(tree.search(query, max)).as("%s ~%d", query, max).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void boundedSearchMatchesBruteForceOnDeepTree() {
+		// alfabet kecil agar banyak term berdekatan dan pohon punya banyak edge berjarak kecil maupun besar
+		Random random = new Random(7);
+		Set<String> terms = new TreeSet<>();
+		tree.clear();
+		while (terms.size() < 500) {
+			String term = randomWord(random, 1 + random.nextInt(10));
+			terms.add(term);
+			tree.add(term);
+		}
+		for (int i = 0; i < 200; i++) {
+			String query = randomWord(random, 1 + random.nextInt(10));
+			int max = random.nextInt(3);
+			Map<String, Integer> expected = new HashMap<>();
+			for (String term : terms) {
+				int distance = BkTree.distance(term, query, Integer.MAX_VALUE);
+				if (distance <= max) {
+					expected.put(term, distance);
+				}
+			}
+			assertThat(tree.search(query, max)).as("%s ~%d", query, max).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void clearRemovesEveryTerm() {
+		tree.clear();
+
+		assertThat(tree.size()).isZero();
+		assertThat(tree.search("hobbit", 2)).isEmpty();
+	}
+
+	private static String randomWord(Random random, int length) {
+		StringBuilder word = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			word.append((char) ('a' + random.nextInt(4)));
+		}
+		return word.toString();
+	}
+}
@@ -0,0 +1,165 @@
+package com.polstat.perpustakaan.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.entity.Book;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class InvertedBookIndexTests {
+
+	private InvertedBookIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InvertedBookIndex();
+		index.update(null, book(1L, "The Hobbit", "J.R.R. Tolkien", "Bilbo Baggins pergi bertualang"));
+		index.update(null, book(2L, "The Lord of the Rings", "J.R.R. Tolkien", "Frodo membawa cincin"));
+		index.update(null, book(3L, "Harry Potter and the Philosopher's Stone", "J.K. Rowling", "Sihir di Hogwarts"));
+		index.update(null, book(4L, "Tolkien: A Biography", "Humphrey Carpenter", "Kehidupan sang penulis"));
+		index.update(null, book(5L, "Laskar Pelangi", "Andrea Hirata", "Sekolah di Belitung"));
+	}
+
+	@Test
+	void searchRequiresEveryTokenAndSortsById() {
+		assertThat(index.search("tolkien")).containsExactly(1L, 2L, 4L);
+		assertThat(index.search("TOLKIEN hobbit")).containsExactly(1L);
+		assertThat(index.search("tolkien rowling")).isEmpty();
+		assertThat(index.search("tolk")).isEmpty();
+	}
+
+	@Test
+	void searchIgnoresCaseAccentsAndPunctuation() {
+		index.update(null, book(6L, "Café Ólé", "José Saramago", null));
+
+		assertThat(index.search("cafe ole")).containsExactly(6L);
+		assertThat(index.search("j.k. rowling")).containsExactly(3L);
+	}
+
+	@Test
+	void emptyKeywordMatchesEveryBook() {
+		assertThat(index.search("")).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(index.search("  ,. ")).containsExactly(1L, 2L, 3L, 4L, 5L);
+	}
+
+	@Test
+	void descriptionIsOnlySearchedWhenEnabled() {
+		assertThat(index.search("belitung")).isEmpty();
+
+		ReflectionTestUtils.setField(index, "indexDescription", true);
+
+		assertThat(index.search("belitung")).containsExactly(5L);
+	}
+
+	@Test
+	void deletedBookIsNotFound() {
+		index.update(book(1L, "The Hobbit", "J.R.R. Tolkien", "Bilbo Baggins pergi bertualang"), null);
+
+		assertThat(index.search("hobbit")).isEmpty();
+		assertThat(index.search("tolkien")).containsExactly(2L, 4L);
+		assertThat(index.termCount()).isPositive();
+	}
+
+	@Test
+	void searchRankedPutsBestMatchFirst() {
+		// judul diberi bobot lebih besar daripada penulis
+		assertThat(index.searchRanked("tolkien", 10)).containsExactly(4L, 1L, 2L);
+		assertThat(index.searchRanked("hobbit tolkien", 10).get(0)).isEqualTo(1L);
+	}
+
+	@Test
+	void searchRankedKeepsOnlyTopK() {
+		assertThat(index.searchRanked("tolkien", 2)).containsExactly(4L, 1L);
+		assertThat(index.searchRanked("tolkien", 1)).containsExactly(4L);
+	}
+
+	@Test
+	void searchRankedHandlesLimitBoundaries() {
+		assertThat(index.searchRanked("tolkien", Integer.MAX_VALUE)).containsExactly(4L, 1L, 2L);
+		assertThat(index.searchRanked("tolkien", 0)).isEmpty();
+		assertThat(index.searchRanked("tolkien", -1)).isEmpty();
+		assertThat(index.searchRanked("tidakada", Integer.MAX_VALUE)).isEmpty();
+		assertThat(index.searchRanked("", 10)).isEmpty();
+	}
+
+	@Test
+	void searchRankedMatchesAnyToken() {
+		assertThat(index.searchRanked("pelangi rowling", 10)).containsExactlyInAnyOrder(3L, 5L);
+	}
+
+	@Test
+	void rankScoresOnlyCandidatesAndFallsBackToIdOrder() {
+		// kandidat tanpa token utuh (misalnya hasil LIKE "tolk") tetap dikembalikan, urut id
+		assertThat(index.rank("tolk", List.of(4L, 2L, 1L), 10)).containsExactly(1L, 2L, 4L);
+		// kandidat dengan skor lebih dulu, sisanya urut id
+		assertThat(index.rank("hobbit", List.of(5L, 2L, 1L), 10)).containsExactly(1L, 2L, 5L);
+		assertThat(index.rank("tolkien", List.of(2L, 4L), 10)).containsExactly(4L, 2L);
+		assertThat(index.rank("tolkien", List.of(1L, 2L, 4L), 1)).containsExactly(4L);
+		assertThat(index.rank("tolkien", List.of(1L, 2L, 4L), Integer.MAX_VALUE)).containsExactly(4L, 1L, 2L);
+		assertThat(index.rank("tolkien", List.of(), 10)).isEmpty();
+	}
+
+	@Test
+	void searchFuzzyToleratesTypos() {
+		assertThat(index.searchFuzzy("hobit", 2, 10)).containsExactly(1L);
+		assertThat(index.searchFuzzy("tolkein", 2, 10)).containsExactly(1L, 2L, 4L);
+		assertThat(index.searchFuzzy("tolkein", 1, 10)).isEmpty();
+		assertThat(index.searchFuzzy("tolkein", 0, 10)).isEmpty();
+	}
+
+	@Test
+	void searchFuzzyAllowsFewerEditsForShortTokens() {
+		// token <= 2 huruf harus persis, <= 5 huruf maksimal satu salah ketik
+		assertThat(index.searchFuzzy("og", 2, 10)).isEmpty();
+		assertThat(index.searchFuzzy("of", 2, 10)).containsExactly(2L);
+		assertThat(index.searchFuzzy("hobt", 2, 10)).isEmpty();
+		assertThat(index.searchFuzzy("lrd", 2, 10)).containsExactly(2L);
+		assertThat(index.searchFuzzy("ringgs", 2, 10)).containsExactly(2L);
+	}
+
+	@Test
+	void searchFuzzyRequiresEveryToken() {
+		assertThat(index.searchFuzzy("hobit tolkein", 2, 10)).containsExactly(1L);
+		assertThat(index.searchFuzzy("hobit rowlin", 2, 10)).isEmpty();
+		assertThat(index.searchFuzzy("", 2, 10)).isEmpty();
+	}
+
+	@Test
+	void searchFuzzyIgnoresDescription() {
+		assertThat(index.searchFuzzy("belitung", 2, 10)).isEmpty();
+	}
+
+	@Test
+	void searchFuzzyOrdersByTotalDistanceThenId() {
+		index.update(null, book(6L, "Tolkein Parodi", "Anonim", null));
+
+		assertThat(index.searchFuzzy("tolkein", 2, 10)).containsExactly(6L, 1L, 2L, 4L);
+		assertThat(index.searchFuzzy("tolkien", 2, 10)).containsExactly(1L, 2L, 4L, 6L);
+		assertThat(index.searchFuzzy("tolkein", 2, 2)).containsExactly(6L, 1L);
+		assertThat(index.searchFuzzy("tolkein", 0, 10)).containsExactly(6L);
+	}
+
+	@Test
+	void searchFuzzyForgetsDeletedTerms() {
+		index.update(book(1L, "The Hobbit", "J.R.R. Tolkien", "Bilbo Baggins pergi bertualang"), null);
+
+		assertThat(index.searchFuzzy("hobit", 2, 10)).isEmpty();
+	}
+
+	@Test
+	void updateReplacesPreviousVersion() {
+		Book previous = book(5L, "Laskar Pelangi", "Andrea Hirata", "Sekolah di Belitung");
+		index.update(previous, book(5L, "Sang Pemimpi", "Andrea Hirata", "Sekolah di Belitung"));
+
+		assertThat(index.searchRanked("pelangi", 10)).isEmpty();
+		assertThat(index.search("pelangi")).isEmpty();
+		assertThat(index.search("pemimpi hirata")).containsExactly(5L);
+		assertThat(index.searchRanked("pemimpi", 10)).containsExactly(5L);
+	}
+
+	static Book book(Long id, String title, String author, String description) {
+		return Book.builder().id(id).title(title).author(author).description(description).build();
+	}
+}
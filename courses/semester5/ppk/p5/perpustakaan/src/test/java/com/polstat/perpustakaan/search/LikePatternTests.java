@@ -0,0 +1,75 @@
+package com.polstat.perpustakaan.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LikePattern.contains(k).matches(t) harus sama dengan {@code t LIKE CONCAT('%', k, '%')} di MySQL
+ * (collation case- dan accent-insensitive; \ bukan escape karena dialect MySQL Hibernate menggandakannya).
+ */
+class LikePatternTests {
+
+	@Test
+	void plainKeywordMatchesSubstringIgnoringCaseAndAccents() {
+		assertThat(LikePattern.contains("tolk").matches("The Hobbit by J.R.R. Tolkien")).isTrue();
+		assertThat(LikePattern.contains("JOSE").matches("José Saramago")).isTrue();
+		assertThat(LikePattern.contains("tolk").matches("Tolstoy")).isFalse();
+		assertThat(LikePattern.contains("tolk").matches(null)).isFalse();
+	}
+
+	@Test
+	void emptyKeywordAndPercentOnlyMatchEverything() {
+		assertThat(LikePattern.contains("").matches("")).isTrue();
+		assertThat(LikePattern.contains("").matches("apa saja")).isTrue();
+		assertThat(LikePattern.contains("%%%").matches("")).isTrue();
+	}
+
+	@Test
+	void percentMatchesAnySequenceInOrder() {
+		assertThat(LikePattern.contains("har%pot").matches("Harry Potter")).isTrue();
+		assertThat(LikePattern.contains("har%%pot").matches("Harry Potter")).isTrue();
+		assertThat(LikePattern.contains("pot%har").matches("Harry Potter")).isFalse();
+		// segmen yang sama boleh muncul berulang, masing-masing harus punya tempat sendiri
+		assertThat(LikePattern.contains("ab%ab").matches("xaby")).isFalse();
+		assertThat(LikePattern.contains("ab%ab").matches("xabab")).isTrue();
+		assertThat(LikePattern.contains("aba%a").matches("ababa")).isTrue();
+	}
+
+	@Test
+	void underscoreMatchesExactlyOneCharacter() {
+		assertThat(LikePattern.contains("h_bbit").matches("The Hobbit")).isTrue();
+		assertThat(LikePattern.contains("h__bbit").matches("The Hobbit")).isFalse();
+		assertThat(LikePattern.contains("___").matches("ab")).isFalse();
+		assertThat(LikePattern.contains("___").matches("abc")).isTrue();
+		assertThat(LikePattern.contains("t_e%h_b").matches("The Hobbit")).isTrue();
+		// posisi pertama yang cocok untuk huruf literal belum tentu cocok untuk _ sesudahnya
+		assertThat(LikePattern.contains("a_c").matches("aab abc")).isTrue();
+	}
+
+	@Test
+	void backslashIsLiteral() {
+		assertThat(LikePattern.contains("100\\%").matches("100% Indonesia")).isFalse();
+		assertThat(LikePattern.contains("100\\%").matches("C:\\100\\data")).isTrue();
+		assertThat(LikePattern.contains("a\\_b").matches("a\\xb")).isTrue();
+		assertThat(LikePattern.contains("a\\_b").matches("a_b")).isFalse();
+	}
+
+	@Test
+	void literalsAreTheTextBetweenWildcards() {
+		assertThat(LikePattern.contains("har%po_ter").getLiterals()).containsExactly("har", "po", "ter");
+		assertThat(LikePattern.contains("c:\\data%").getLiterals()).containsExactly("c:\\data");
+	}
+
+	@Test
+	void manyWildcardsDoNotBacktrack() {
+		String title = "a".repeat(100_000);
+		assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+			assertThat(LikePattern.contains("%%%%%%%%%%%%z").matches(title)).isFalse();
+			assertThat(LikePattern.contains("a%a%a%a%a%a%a%a%a%a%a%z").matches(title)).isFalse();
+			assertThat(LikePattern.contains("_%_%_%_%_%_%_%_%_%_%_%z").matches(title)).isFalse();
+		});
+	}
+}
@@ -0,0 +1,101 @@
+package com.polstat.perpustakaan.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.service.TrigramSearchBackend;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * TrigramBookIndex.search harus mengembalikan buku yang sama dengan BookRepository.searchBooks
+ * (JPQL "title LIKE %:keyword% OR author LIKE %:keyword%"), termasuk wildcard dan kata kunci < 3 karakter.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_search_test?createDatabaseIfNotExist=true",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrigramBookIndexTests {
+
+	private static final String[][] BOOKS = {
+			{"The Hobbit", "J.R.R. Tolkien"},
+			{"The Lord of the Rings", "J.R.R. Tolkien"},
+			{"Harry Potter and the Philosopher's Stone", "J.K. Rowling"},
+			{"Harry Potter and the Chamber of Secrets", "J.K. Rowling"},
+			{"War and Peace", "Leo Tolstoy"},
+			{"Laskar Pelangi", "Andrea Hirata"},
+			{"Bumi Manusia", "Pramoedya Ananta Toer"},
+			{"100% Indonesia", "Tim Redaksi"},
+			{"snake_case untuk pemula", "A_B Penulis"},
+			{"Ab", "Xy"},
+			{"C:\\100\\data", "Admin"}
+	};
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BookIndexer bookIndexer;
+
+	@Autowired
+	private TrigramSearchBackend trigramSearchBackend;
+
+	private final TrigramBookIndex index = new TrigramBookIndex();
+
+	private final Map<Long, Book> books = new HashMap<>();
+
+	@BeforeAll
+	void seed() {
+		for (String[] book : BOOKS) {
+			Book saved = bookRepository.save(Book.builder().title(book[0]).author(book[1]).build());
+			books.put(saved.getId(), saved);
+			index.update(null, saved);
+		}
+		bookIndexer.rebuild();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"tolk", "TOLK", "potter", "rowl", "the", "har%pot", "pot%har", "h_bbit", "h__bbit", "t_e%h_b",
+			"", "a", "ab", "xy", "%", "%%%", "_", "__", "___", "%a%", "_a_",
+			"100\\%", "100%", "\\_", "e\\_c", "zzz", "toer", "ra%ta"
+	})
+	void matchesJpqlLike(String keyword) {
+		List<Long> expected = bookRepository.searchBooks(keyword).stream()
+				.map(Book::getId)
+				.sorted()
+				.collect(Collectors.toList());
+
+		List<Long> actual = index.search(keyword, books::get).stream().sorted().collect(Collectors.toList());
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"tolk", "rowl", "har%pot", "h_bbit", "ab", "toer"})
+	void rankedSearchReturnsSameBooksAsLike(String keyword) {
+		List<Long> expected = bookRepository.searchBooks(keyword).stream()
+				.map(Book::getId)
+				.sorted()
+				.collect(Collectors.toList());
+
+		List<Long> ranked = trigramSearchBackend.search(keyword, 100).stream()
+				.map(BookDto::getId)
+				.sorted()
+				.collect(Collectors.toList());
+
+		assertThat(ranked).isNotEmpty().isEqualTo(expected);
+		assertThat(trigramSearchBackend.search(keyword, 1)).hasSize(1);
+	}
+}
@@ -0,0 +1,93 @@
+package com.polstat.perpustakaan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.search.BookIndexer;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Indeks pencarian dan cache hasil pencarian hanya berubah setelah perubahan buku di-commit.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_book_test?createDatabaseIfNotExist=true",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BookServiceImplTests {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private BookIndexer bookIndexer;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void committedUpdateReachesIndexAndCache() {
+		Long id = createBook("Kancil Cerdik", "Penulis Lama");
+		assertThat(bookService.searchBooks("kancil")).extracting(BookDto::getId).contains(id);
+
+		BookDto updated = bookService.updateBook(id, Map.of("title", "Kura-kura Cerdik"));
+
+		assertThat(updated.getAuthor()).isEqualTo("Penulis Lama");
+		assertThat(bookIndexer.get(id).getTitle()).isEqualTo("Kura-kura Cerdik");
+		assertThat(bookIndexer.get(id).getAuthor()).isEqualTo("Penulis Lama");
+		assertThat(bookService.searchBooks("kancil")).extracting(BookDto::getId).doesNotContain(id);
+		assertThat(bookService.searchBooks("kura")).extracting(BookDto::getId).contains(id);
+	}
+
+	@Test
+	void rolledBackUpdateDoesNotReachIndexOrCache() {
+		Long id = createBook("Timun Mas", "Penulis Rakyat");
+		assertThat(bookService.searchBooks("timun")).extracting(BookDto::getId).contains(id);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			bookService.updateBook(id, Map.of("title", "Bawang Merah"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(bookRepository.findById(id)).get().extracting("title").isEqualTo("Timun Mas");
+		assertThat(bookIndexer.get(id).getTitle()).isEqualTo("Timun Mas");
+		assertThat(bookService.searchBooks("timun")).extracting(BookDto::getId).contains(id);
+		assertThat(bookService.searchBooks("bawang")).extracting(BookDto::getId).doesNotContain(id);
+	}
+
+	@Test
+	void rolledBackDeleteKeepsBookSearchable() {
+		Long id = createBook("Malin Kundang", "Penulis Rakyat");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			bookService.deleteBook(id);
+			status.setRollbackOnly();
+		});
+
+		assertThat(bookRepository.existsById(id)).isTrue();
+		assertThat(bookIndexer.get(id)).isNotNull();
+		assertThat(bookService.searchBooks("kundang")).extracting(BookDto::getId).contains(id);
+	}
+
+	@Test
+	void committedDeleteRemovesBookFromIndex() {
+		Long id = createBook("Sangkuriang", "Penulis Rakyat");
+		assertThat(bookService.searchBooks("sangkuriang")).extracting(BookDto::getId).contains(id);
+
+		bookService.deleteBook(id);
+
+		assertThat(bookIndexer.get(id)).isNull();
+		assertThat(bookService.searchBooks("sangkuriang")).extracting(BookDto::getId).doesNotContain(id);
+	}
+
+	private Long createBook(String title, String author) {
+		return bookService.createBook(BookDto.builder().title(title).author(author).build()).getId();
+	}
+}
@@ -0,0 +1,143 @@
+package com.polstat.perpustakaan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.dto.BorrowDto;
+import com.polstat.perpustakaan.dto.BorrowFilter;
+import com.polstat.perpustakaan.dto.CursorPage;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.entity.Borrow;
+import com.polstat.perpustakaan.entity.Member;
+import com.polstat.perpustakaan.repository.BookRepository;
+import com.polstat.perpustakaan.repository.BorrowRepository;
+import com.polstat.perpustakaan.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * getAllBorrowings harus satu statement SQL berapa pun jumlah peminjaman dan anggota/buku yang berbeda,
+ * dan membaca satu peminjaman tidak boleh ikut memuat member dan book.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:mysql://localhost:3306/library_borrow_test?createDatabaseIfNotExist=true&rewriteBatchedStatements=true",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BorrowServiceImplTests {
+
+	private static final int MEMBERS = 500;
+	private static final int BOOKS = 1000;
+	private static final int BORROWS = 10_000;
+
+	@Autowired
+	private BorrowService borrowService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private BorrowRepository borrowRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Statistics statistics;
+
+	private Long firstMemberId;
+
+	@BeforeAll
+	void seed() {
+		List<Member> members = new ArrayList<>();
+		for (int i = 0; i < MEMBERS; i++) {
+			members.add(Member.builder().memberID("M" + i).name("Anggota " + i).address("Alamat " + i).build());
+		}
+		memberRepository.saveAll(members);
+		firstMemberId = members.get(0).getId();
+		List<Book> books = new ArrayList<>();
+		for (int i = 0; i < BOOKS; i++) {
+			books.add(Book.builder().title("Buku " + i).author("Penulis " + i).build());
+		}
+		bookRepository.saveAll(books);
+		// borrows memakai IDENTITY sehingga saveAll tidak di-batch; 10k baris di-insert lewat JDBC
+		List<Object[]> borrows = new ArrayList<>();
+		for (int i = 0; i < BORROWS; i++) {
+			borrows.add(new Object[] {
+					members.get(i % MEMBERS).getId(),
+					books.get(i % BOOKS).getId(),
+					Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i % 30)),
+					"Borrowed"
+			});
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO borrows (member_id, book_id, borrow_date, borrow_status) VALUES (?, ?, ?, ?)", borrows);
+	}
+
+	@BeforeEach
+	void resetStatistics() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void getAllBorrowingsUsesSingleStatement() {
+		List<BorrowDto> borrowings = borrowService.getAllBorrowings();
+
+		assertThat(borrowings).hasSize(BORROWS);
+		assertThat(borrowings.get(BORROWS - 1).getMemberId()).isNotNull();
+		assertThat(borrowings.get(BORROWS - 1).getBookId()).isNotNull();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void findBorrowsPagesThroughFilteredBorrows() {
+		BorrowFilter filter = BorrowFilter.builder()
+				.memberId(firstMemberId)
+				.status("Borrowed")
+				.from(LocalDate.of(2024, 1, 1))
+				.to(LocalDate.of(2024, 1, 31))
+				.build();
+
+		CursorPage<BorrowDto> first = borrowService.findBorrows(filter, null, 15);
+		CursorPage<BorrowDto> second = borrowService.findBorrows(filter, first.getNextCursor(), 15);
+
+		// setiap anggota meminjam BORROWS / MEMBERS kali
+		assertThat(first.getItems()).hasSize(15);
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(second.getItems()).hasSize(BORROWS / MEMBERS - 15);
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getItems().get(0).getId()).isGreaterThan(first.getNextCursor());
+		assertThat(second.getItems()).allMatch(borrow -> borrow.getMemberId().equals(firstMemberId));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void borrowReadDoesNotLoadMemberAndBook() {
+		Borrow borrow = borrowRepository.findAll().get(0);
+
+		assertThat(Hibernate.isInitialized(borrow.getMember())).isFalse();
+		assertThat(Hibernate.isInitialized(borrow.getBook())).isFalse();
+		assertThat(borrow.getMember().getId()).isNotNull();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,191 @@
+package com.polstat.perpustakaan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.polstat.perpustakaan.dto.BookDto;
+import com.polstat.perpustakaan.entity.Book;
+import com.polstat.perpustakaan.event.BookIndexedEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SearchResultCacheTests {
+
+	private static final Book HOBBIT = Book.builder().id(1L).title("The Hobbit").author("J.R.R. Tolkien").build();
+	private static final Book LASKAR = Book.builder().id(2L).title("Laskar Pelangi").author("Andrea Hirata").build();
+
+	private SearchResultCache cache;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		cache = new SearchResultCache();
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxEntries", 100);
+		ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+	}
+
+	@Test
+	void repeatedSearchIsServedFromCache() {
+		cache.get("tolkien", null, loader(HOBBIT));
+		cache.get("tolkien", null, loader(HOBBIT));
+
+		assertThat(loads).hasValue(1);
+		assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+	}
+
+	@Test
+	void limitAndFuzzyResultsAreCachedSeparately() {
+		cache.get("tolkien", null, loader(HOBBIT));
+		cache.get("tolkien", 5, loader(HOBBIT));
+		cache.getFuzzy("tolkien", 2, 5, loader(HOBBIT));
+
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void changeToCachedBookInvalidatesEntry() {
+		cache.get("tolkien", null, loader(HOBBIT));
+
+		cache.onBookIndexed(new BookIndexedEvent(1L, HOBBIT, null));
+		cache.get("tolkien", null, loader());
+
+		assertThat(loads).hasValue(2);
+		assertThat(cache.getStats()).containsEntry("invalidations", 1L);
+	}
+
+	@Test
+	void newBookThatMayMatchInvalidatesEntry() {
+		cache.get("pelangi", null, loader());
+
+		cache.onBookIndexed(new BookIndexedEvent(2L, null, LASKAR));
+		cache.get("pelangi", null, loader(LASKAR));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void unrelatedChangeKeepsEntry() {
+		cache.get("tolkien", null, loader(HOBBIT));
+
+		cache.onBookIndexed(new BookIndexedEvent(2L, null, LASKAR));
+		cache.get("tolkien", null, loader(HOBBIT));
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void resultLoadedAcrossIndexChangeIsNotCached() {
+		// pencarian membaca indeks lama, lalu perubahan buku selesai diterapkan sebelum hasilnya disimpan
+		cache.get("pelangi", null, () -> {
+			List<BookDto> stale = loader().get();
+			cache.onBookIndexed(new BookIndexedEvent(2L, null, LASKAR));
+			return stale;
+		});
+
+		List<BookDto> books = cache.get("pelangi", null, loader(LASKAR));
+
+		assertThat(loads).hasValue(2);
+		assertThat(books).extracting(BookDto::getId).containsExactly(2L);
+	}
+
+	@Test
+	void concurrentMissesForSameNormalizedKeywordShareOneLoad() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<List<BookDto>> blocking = () -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return loader(HOBBIT).get();
+		};
+		CompletableFuture<List<BookDto>> first = CompletableFuture.supplyAsync(() -> cache.get("Tolkien", null, blocking));
+		awaitCoalesced(0, 1);
+		CompletableFuture<List<BookDto>> second = CompletableFuture.supplyAsync(() -> cache.get("TOLKIEN", null, blocking));
+		awaitCoalesced(1, 1);
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(second.get(5, TimeUnit.SECONDS));
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void disabledCacheStillCoalescesConcurrentSearches() throws Exception {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<List<BookDto>> blocking = () -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return loader(HOBBIT).get();
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(10);
+		try {
+			List<CompletableFuture<List<BookDto>>> searches = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				String keyword = i % 2 == 0 ? "tolkien" : "hobbit";
+				searches.add(CompletableFuture.supplyAsync(() -> cache.get(keyword, null, blocking), executor));
+			}
+			// getStats() dan onBookIndexed() tidak menunggu query yang sedang berjalan
+			awaitCoalesced(8, 2);
+			cache.onBookIndexed(new BookIndexedEvent(2L, null, LASKAR));
+			release.countDown();
+
+			for (CompletableFuture<List<BookDto>> search : searches) {
+				assertThat(search.get(5, TimeUnit.SECONDS)).extracting(BookDto::getId).containsExactly(1L);
+			}
+			assertThat(loads).hasValue(2);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void disabledCacheAlwaysLoads() {
+		ReflectionTestUtils.setField(cache, "enabled", false);
+
+		cache.get("tolkien", null, loader(HOBBIT));
+		cache.get("tolkien", null, loader(HOBBIT));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void awaitCoalesced(long expected, int inFlight) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (true) {
+			Map<String, Object> flights = (Map<String, Object>) cache.getStats().get("singleFlight");
+			if ((Long) flights.get("coalesced") == expected && (Integer) flights.get("inFlight") == inFlight) {
+				return;
+			}
+			assertThat(System.nanoTime()).as("menunggu single-flight").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	private Supplier<List<BookDto>> loader(Book... books) {
+		return () -> {
+			loads.incrementAndGet();
+			return List.of(books).stream()
+					.map(book -> BookDto.builder().id(book.getId()).title(book.getTitle()).author(book.getAuthor()).build())
+					.collect(Collectors.toList());
+		};
+	}
+}
@@ -0,0 +1,111 @@
+package com.polstat.perpustakaan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTests {
+
+	private static final int WAITERS = 4;
+
+	private final SingleFlight<String, String> flights = new SingleFlight<>();
+	private final ExecutorService executor = Executors.newFixedThreadPool(WAITERS + 1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flights.execute("tolkien", this::blockingLoad), executor);
+		awaitStat("inFlight", 1);
+		List<CompletableFuture<String>> waiters = new ArrayList<>();
+		for (int i = 0; i < WAITERS; i++) {
+			waiters.add(CompletableFuture.supplyAsync(() -> flights.execute("tolkien", this::blockingLoad), executor));
+		}
+		awaitStat("coalesced", WAITERS);
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("hasil 1");
+		for (CompletableFuture<String> waiter : waiters) {
+			assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("hasil 1");
+		}
+		assertThat(calls).hasValue(1);
+		assertThat(flights.getStats())
+				.containsEntry("inFlight", 0)
+				.containsEntry("executions", 1L)
+				.containsEntry("coalesced", (long) WAITERS);
+	}
+
+	@Test
+	void differentKeysAreNotCoalesced() throws Exception {
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flights.execute("tolkien", this::blockingLoad), executor);
+		awaitStat("inFlight", 1);
+
+		assertThat(flights.execute("rowling", () -> "lain")).isEqualTo("lain");
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		assertThat(flights.getStats()).containsEntry("executions", 2L).containsEntry("coalesced", 0L);
+	}
+
+	@Test
+	void finishedCallIsNotCached() {
+		flights.execute("tolkien", () -> "hasil " + calls.incrementAndGet());
+
+		assertThat(flights.execute("tolkien", () -> "hasil " + calls.incrementAndGet())).isEqualTo("hasil 2");
+	}
+
+	@Test
+	void failureIsSharedAndNotRemembered() throws Exception {
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> flights.execute("tolkien", () -> {
+			blockingLoad();
+			throw new IllegalStateException("database mati");
+		}), executor);
+		awaitStat("inFlight", 1);
+		CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> flights.execute("tolkien", this::blockingLoad), executor);
+		awaitStat("coalesced", 1);
+		release.countDown();
+
+		assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("database mati");
+		assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+				.hasRootCauseInstanceOf(IllegalStateException.class)
+				.hasRootCauseMessage("database mati");
+		assertThat(flights.execute("tolkien", () -> "pulih")).isEqualTo("pulih");
+	}
+
+	private String blockingLoad() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "hasil " + calls.incrementAndGet();
+	}
+
+	private void awaitStat(String name, long expected) throws InterruptedException {
+		await(() -> ((Number) flights.getStats().get(name)).longValue() == expected);
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("menunggu kondisi").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+}